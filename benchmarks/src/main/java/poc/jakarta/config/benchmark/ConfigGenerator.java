@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates a large properties config with realistic key shapes, {@code service<n>.group<n>.item<n>.<leaf>}.
+ */
+final class ConfigGenerator {
+    private static final String[] LEAVES = {"host", "port", "enabled", "timeout", "name", "weights"};
+
+    private final List<String> keys = new ArrayList<>();
+    private final String properties;
+
+    ConfigGenerator(int size) {
+        final StringBuilder sb = new StringBuilder(size * 48);
+        for (int i = 0; i != size; i++) {
+            final String leaf = LEAVES[i % LEAVES.length];
+            final String key = "service" + (i % 50) + ".group" + (i % 20) + ".item" + (i / LEAVES.length) + "." + leaf;
+            keys.add(key);
+            sb.append(key).append(" = ").append(value(leaf, i)).append('\n');
+        }
+        this.properties = sb.toString();
+    }
+
+    private static String value(String leaf, int i) {
+        switch (leaf) {
+            case "port":
+                return String.valueOf(1024 + i % 60000);
+            case "enabled":
+                return String.valueOf(i % 2 == 0);
+            case "timeout":
+                return String.valueOf(i * 10L);
+            case "weights":
+                return i + "," + (i + 1) + "," + (i + 2);
+            default:
+                return leaf + "-" + i;
+        }
+    }
+
+    List<String> keys() {
+        return keys;
+    }
+
+    String properties() {
+        return properties;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.benchmark;
+
+import jakarta.config.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import poc.jakarta.config.PocConfigLoader;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the getters of the {@link Configuration} interface implemented by the {@link java.lang.reflect.Proxy} and
+ * by the generated class.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterfaceBenchmark {
+
+    @Configuration(path = "server")
+    public interface Server {
+        String host();
+        int port();
+        long timeout();
+        boolean keepalive();
+    }
+
+    private Server proxy;
+    private Server generated;
+
+    @Setup
+    public void setup() {
+        proxy = PocConfigLoader.builder().build().load(Server.class);
+        generated = PocConfigLoader.builder().generatedInterfaces(true).build().load(Server.class);
+    }
+
+    @Benchmark
+    public long proxyGetters() {
+        return read(proxy);
+    }
+
+    @Benchmark
+    public long generatedGetters() {
+        return read(generated);
+    }
+
+    private static long read(Server server) {
+        return server.host().length() + server.port() + server.timeout() + (server.keepalive() ? 1 : 0);
+    }
+}
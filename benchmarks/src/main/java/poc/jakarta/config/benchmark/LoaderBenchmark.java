@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.benchmark;
+
+import jakarta.config.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import poc.jakarta.config.PocConfigLoader;
+import poc.jakarta.config.internal.loader.ConfigLoaderContext;
+import poc.jakarta.config.internal.node.ConfigPath;
+import poc.jakarta.config.internal.node.FrozenConfigNode;
+import poc.jakarta.config.internal.source.DefaultPropertyFileSource;
+import poc.jakarta.config.internal.util.AnnotationReader;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link PocConfigLoader#load(Class)} using the cached binding plans with the former path that reads
+ * the annotation, parses the path, creates the context and walks the Config Tree on every load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoaderBenchmark {
+
+    @Configuration(path = "server")
+    public static class Server {
+        String host;
+        int port;
+        int workers;
+        int queue;
+        long timeout;
+        boolean keepalive;
+        boolean compression;
+        List<String> protocols;
+        Tls tls;
+
+        public static class Tls {
+            boolean enabled;
+            String protocol;
+            String keystore;
+            String password;
+        }
+    }
+
+    @Configuration(path = "server")
+    public interface ServerInterface {
+        String host();
+        int port();
+        long timeout();
+        boolean keepalive();
+        List<String> protocols();
+    }
+
+    private PocConfigLoader loader;
+    private FrozenConfigNode root;
+
+    @Setup
+    public void setup() {
+        loader = PocConfigLoader.builder().optionalFields(true).build();
+        root = new DefaultPropertyFileSource().load(null).freeze();
+    }
+
+    @Benchmark
+    public Server loadClass() {
+        return loader.load(Server.class);
+    }
+
+    @Benchmark
+    public Server loadClassUncached() {
+        return uncached(Server.class);
+    }
+
+    @Benchmark
+    public ServerInterface loadInterface() {
+        return loader.load(ServerInterface.class);
+    }
+
+    @Benchmark
+    public ServerInterface loadInterfaceUncached() {
+        return uncached(ServerInterface.class);
+    }
+
+    private <T> T uncached(Class<T> type) {
+        final ConfigPath path = ConfigPath.from(AnnotationReader.readPath(type).orElse("")).build();
+        final ConfigLoaderContext.Options options = new ConfigLoaderContext.Options();
+        options.throwOnMissingProperty = false;
+        final ConfigLoaderContext context = ConfigLoaderContext.builder(root)
+                .path(path)
+                .options(options)
+                .build();
+        return context.injector().load(type, type, context);
+    }
+}
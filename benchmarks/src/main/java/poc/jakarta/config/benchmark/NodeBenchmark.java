@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import poc.jakarta.config.internal.node.ConfigNode;
+import poc.jakarta.config.internal.node.ConfigPath;
+import poc.jakarta.config.internal.node.FrozenConfigNode;
+import poc.jakarta.config.internal.source.PropertyStringSource;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Navigation latency of the mutable {@link ConfigNode} tree and of the {@link FrozenConfigNode} snapshot, with and
+ * without the index of the full paths.
+ * See {@link TreeFootprint} for the memory per node.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NodeBenchmark {
+    @Param({"1000", "40000"})
+    int size;
+
+    private ConfigNode tree;
+    private FrozenConfigNode frozen;
+    private ConfigPath[] paths;
+    private int index;
+
+    @Setup
+    public void setup() {
+        final ConfigGenerator generator = new ConfigGenerator(size);
+        tree = new PropertyStringSource(generator.properties()).load(null);
+        frozen = tree.freeze();
+        final List<String> keys = generator.keys();
+        paths = new ConfigPath[1024];
+        for (int i = 0; i != paths.length; i++) {
+            paths[i] = ConfigPath.from(keys.get((i * 7919) % keys.size())).build();
+        }
+    }
+
+    @Benchmark
+    public Object navigateTree() {
+        return tree.navigate(next()).orElse(null);
+    }
+
+    @Benchmark
+    public Object navigateFrozen() {
+        return frozen.find(next());
+    }
+
+    @Benchmark
+    public Object navigateFrozenWithoutIndex() {
+        FrozenConfigNode node = frozen;
+        for (ConfigPath.ConfigPathSegment segment : next().getSegments()) {
+            node = node.child(segment);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    private ConfigPath next() {
+        return paths[index++ & (paths.length - 1)];
+    }
+}
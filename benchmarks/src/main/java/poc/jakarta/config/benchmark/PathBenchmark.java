@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import poc.jakarta.config.internal.node.ConfigPath;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of the Config Paths, with the key shapes of the properties files, the {@code @Configuration} paths and the
+ * paths with comments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathBenchmark {
+    @Param({"plain", "comment"})
+    String shape;
+
+    private String[] keys;
+    private int index;
+
+    @Setup
+    public void setup() {
+        final List<String> generated = new ConfigGenerator(1000).keys();
+        keys = new String[256];
+        for (int i = 0; i != keys.length; i++) {
+            final String key = generated.get((i * 7919) % generated.size());
+            keys[i] = "comment".equals(shape)
+                    ? key.replaceFirst("\\.", " /* comment */.")
+                    : key;
+        }
+    }
+
+    @Benchmark
+    public ConfigPath parse() {
+        return ConfigPath.from(next()).build();
+    }
+
+    @Benchmark
+    public ConfigPath append() {
+        return ConfigPath.from("server.tls").append(next()).build();
+    }
+
+    private String next() {
+        index = (index + 1) & (keys.length - 1);
+        return keys[index];
+    }
+}
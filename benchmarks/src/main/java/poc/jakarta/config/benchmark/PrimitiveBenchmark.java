@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.benchmark;
+
+import jakarta.config.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import poc.jakarta.config.PocConfigLoader;
+import poc.jakarta.config.internal.source.PropertyStringSource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading a class with the primitive numeric fields, injected without boxing, with loading the same class
+ * with the wrapper fields. Run with {@code -prof gc} to see the allocation rate per load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveBenchmark {
+
+    @Configuration(path = "numbers")
+    public static class Primitives {
+        int i0, i1, i2, i3, i4, i5, i6, i7;
+        long l0, l1, l2, l3, l4, l5, l6, l7;
+        double d0, d1, d2, d3, d4, d5, d6, d7;
+        boolean b0, b1, b2, b3, b4, b5, b6, b7;
+    }
+
+    @Configuration(path = "numbers")
+    public static class Wrappers {
+        Integer i0, i1, i2, i3, i4, i5, i6, i7;
+        Long l0, l1, l2, l3, l4, l5, l6, l7;
+        Double d0, d1, d2, d3, d4, d5, d6, d7;
+        Boolean b0, b1, b2, b3, b4, b5, b6, b7;
+    }
+
+    private PocConfigLoader loader;
+
+    @Setup
+    public void setup() {
+        final StringBuilder properties = new StringBuilder();
+        for (int i = 0; i != 8; i++) {
+            properties.append("numbers.i").append(i).append('=').append(1000 + i).append('\n')
+                    .append("numbers.l").append(i).append('=').append(10_000_000_000L + i).append('\n')
+                    .append("numbers.d").append(i).append('=').append(1000.5 + i).append('\n')
+                    .append("numbers.b").append(i).append('=').append(i % 2 == 0).append('\n');
+        }
+        loader = PocConfigLoader.builder().source(new PropertyStringSource(properties.toString())).build();
+    }
+
+    @Benchmark
+    public Primitives loadPrimitives() {
+        return loader.load(Primitives.class);
+    }
+
+    @Benchmark
+    public Wrappers loadWrappers() {
+        return loader.load(Wrappers.class);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.benchmark;
+
+import org.openjdk.jol.info.GraphLayout;
+import poc.jakarta.config.internal.node.ConfigNode;
+import poc.jakarta.config.internal.node.FrozenConfigNode;
+import poc.jakarta.config.internal.source.PropertyStringSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Prints the retained size per node of the mutable {@link ConfigNode} tree and of the {@link FrozenConfigNode}
+ * snapshot. The values are shared by both trees and are not counted.
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar poc.jakarta.config.benchmark.TreeFootprint [keys]
+ * </pre>
+ */
+public final class TreeFootprint {
+    public static void main(String[] args) {
+        final int size = args.length == 0 ? 40_000 : Integer.parseInt(args[0]);
+        final ConfigNode tree = new PropertyStringSource(new ConfigGenerator(size).properties()).load(null);
+        final FrozenConfigNode frozen = tree.freeze();
+
+        final List<Object> leaves = new ArrayList<>();
+        values(frozen, leaves);
+        final long values = GraphLayout.parseInstance(leaves.toArray()).totalSize();
+        final long nodes = count(frozen);
+        final long treeSize = GraphLayout.parseInstance(tree).totalSize() - values;
+        final long frozenSize = GraphLayout.parseInstance(frozen).totalSize() - values;
+
+        System.out.printf("nodes: %d%n", nodes);
+        System.out.printf("ConfigNode:       %,d bytes, %d bytes/node%n", treeSize, treeSize / nodes);
+        System.out.printf("FrozenConfigNode: %,d bytes, %d bytes/node%n", frozenSize, frozenSize / nodes);
+    }
+
+    private static long count(FrozenConfigNode node) {
+        long count = 1;
+        for (int i = 0; i != node.size(); i++) {
+            count += count(node.child(i));
+        }
+        return count;
+    }
+
+    private static void values(FrozenConfigNode node, List<Object> values) {
+        if (node.isLeaf()) {
+            values.add(node.valueOrNull());
+        }
+        for (int i = 0; i != node.size(); i++) {
+            values(node.child(i), values);
+        }
+    }
+}
@@ -3,6 +3,7 @@ import poc.jakarta.config.PocConfigLoader;
 module poc.jakarta.config {
     requires jakarta.cdi;
     requires jakarta.config.api;
+    requires java.management;
 
     exports poc.jakarta.config;
     exports poc.jakarta.config.source;
@@ -18,7 +19,9 @@ module poc.jakarta.config {
     exports poc.jakarta.config.internal.loader to poc.jakarta.config.test;
     exports poc.jakarta.config.internal.node to poc.jakarta.config.test;
     exports poc.jakarta.config.internal.source to poc.jakarta.config.test;
+    exports poc.jakarta.config.internal.value to poc.jakarta.config.test;
     exports poc.jakarta.config.internal.value.convertors to poc.jakarta.config.test;
+    exports poc.jakarta.config.node to poc.jakarta.config.test;
     opens poc.jakarta.config.internal.loader to poc.jakarta.config.test;
     opens poc.jakarta.config.internal.node to poc.jakarta.config.test;
 }
\ No newline at end of file
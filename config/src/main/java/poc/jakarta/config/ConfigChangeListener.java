@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config;
+
+import java.util.List;
+
+/**
+ * Notified when the values under a Config Path change, see {@link PocConfigLoader#onChange(String, ConfigChangeListener)}.
+ */
+@FunctionalInterface
+public interface ConfigChangeListener {
+    /**
+     * The values changed. The changes of the reloads that happen before the listener is notified are notified
+     * together.
+     * @param paths the dot separated paths of the added, removed, or changed values.
+     */
+    void onChange(List<String> paths);
+
+    /**
+     * The registered listener.
+     */
+    interface Registration extends AutoCloseable {
+        /**
+         * Stop notifying the listener.
+         */
+        @Override
+        void close();
+    }
+}
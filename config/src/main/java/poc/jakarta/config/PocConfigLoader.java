@@ -19,36 +19,68 @@ package poc.jakarta.config;
 import jakarta.config.ConfigException;
 import jakarta.config.Loader;
 import jakarta.config.TypeToken;
+import poc.jakarta.config.internal.loader.BindingPlanCache;
+import poc.jakarta.config.internal.loader.ChangeListeners;
 import poc.jakarta.config.internal.loader.ConfigLoaderContext;
+import poc.jakarta.config.internal.loader.LiveInstances;
 import poc.jakarta.config.internal.loader.ReflectUtil;
 import poc.jakarta.config.internal.loader.PathMatcher;
+import poc.jakarta.config.internal.loader.ReloadableRoot;
 import poc.jakarta.config.internal.node.ConfigNode;
 import poc.jakarta.config.internal.node.ConfigPath;
+import poc.jakarta.config.internal.node.ConfigPathCache;
+import poc.jakarta.config.internal.node.FrozenConfigNode;
 import poc.jakarta.config.internal.source.DefaultPropertyFileSource;
+import poc.jakarta.config.internal.source.FrozenSource;
 import poc.jakarta.config.internal.util.AnnotationReader;
+import poc.jakarta.config.node.NodeData;
 import poc.jakarta.config.source.ConfigSource;
+import poc.jakarta.config.source.ReloadStatistics;
 
 import java.lang.reflect.Type;
-import java.util.Iterator;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
-public final class PocConfigLoader implements Loader {
+public final class PocConfigLoader implements Loader, AutoCloseable {
     private static final AtomicReference<Loader> cachedLoader = new AtomicReference<>(null);
 
-    private ConfigNode configRoot;
+    private volatile Snapshot snapshot;
+    private ReloadableRoot reloadableRoot;
+    private volatile ChangeListeners listeners;
+    private volatile LiveInstances liveInstances;
+    private ExecutorService listenerExecutor;
     private final Builder builder;
+    // The loader owning the Config Tree, this loader unless derived by path(String)
+    private final PocConfigLoader owner;
 
     public PocConfigLoader() {
         builder = new Builder();
         builder.matcher = new PathMatcher(null);
+        owner = this;
         cachedLoader.compareAndSet(null, this);
     }
 
     public PocConfigLoader(Builder builder) {
         this.builder = new Builder(builder);
+        owner = this;
+    }
+
+    private PocConfigLoader(PocConfigLoader parent, PathMatcher matcher) {
+        this.builder = new Builder(parent.builder).path(matcher);
+        owner = parent.owner;
     }
 
     @Override
@@ -58,8 +90,7 @@ public final class PocConfigLoader implements Loader {
             return (T) (loader != null ? loader : this);
         }
 
-        final ConfigLoaderContext context = configLoaderContext(type);
-        return context.injector().load(type, type, context);
+        return load(type, type);
     }
 
     @Override
@@ -67,16 +98,95 @@ public final class PocConfigLoader implements Loader {
         return load(ReflectUtil.getClass(type), ReflectUtil.getType(type));
     }
 
+    /**
+     * The loader of the sub-Node of the Config Tree. The derived loader shares the Config Tree, the plans, the reloads,
+     * and the listeners with this loader, the sources are not loaded again.
+     * @param s The dot separated path to a requested Config Node
+     * @return The derived loader
+     */
     @Override
     public Loader path(String s) {
-        final PocConfigLoader loader = new PocConfigLoader(builder);
-        loader.builder.matcher = new PathMatcher(s);
-        return loader;
+        return new PocConfigLoader(this, new PathMatcher(s));
     }
 
     public <T> T load(Class<T> clazz, Type genericType) {
-        final ConfigLoaderContext context = configLoaderContext(clazz);
-        return context.injector().load(clazz, genericType, context);
+        return loadLive(snapshot(), clazz, genericType);
+    }
+
+    /**
+     * Load all the types from the same Config Tree, a reload in the meantime is not seen by a part of the types. The
+     * types are loaded as by {@link #load(Class)}, in parallel in the common pool when
+     * {@link Builder#parallelLoadAll(boolean)} is set.
+     * @param types the types to load.
+     * @return the loaded instances by the types, in the order of the types.
+     */
+    public Map<Class<?>, Object> loadAll(Collection<Class<?>> types) {
+        return loadAll(types, type -> type, type -> type);
+    }
+
+    /**
+     * Load all the types from the same Config Tree, see {@link #loadAll(Collection)}.
+     * @param types the types to load.
+     * @return the loaded instances by the types, in the order of the types.
+     */
+    public Map<TypeToken<?>, Object> loadAllTypes(Collection<? extends TypeToken<?>> types) {
+        return loadAll(types, ReflectUtil::getClass, ReflectUtil::getType);
+    }
+
+    private <K> Map<K, Object> loadAll(Collection<? extends K> keys, Function<K, Class<?>> classOf,
+                                       Function<K, Type> typeOf) {
+        final Snapshot snapshot = snapshot();
+        final Map<K, Object> loaded = new LinkedHashMap<>();
+        if (builder.options.parallelLoadAll && keys.size() > 1) {
+            final Map<K, CompletableFuture<Object>> futures = new LinkedHashMap<>();
+            for (K key : keys) {
+                futures.put(key, CompletableFuture.supplyAsync(
+                        () -> loadLive(snapshot, classOf.apply(key), typeOf.apply(key))));
+            }
+            for (Map.Entry<K, CompletableFuture<Object>> future : futures.entrySet()) {
+                try {
+                    loaded.put(future.getKey(), future.getValue().join());
+                } catch (CompletionException e) {
+                    throw e.getCause() instanceof RuntimeException
+                            ? (RuntimeException) e.getCause()
+                            : new ConfigException(e.getCause());
+                }
+            }
+        } else {
+            for (K key : keys) {
+                loaded.put(key, loadLive(snapshot, classOf.apply(key), typeOf.apply(key)));
+            }
+        }
+        return loaded;
+    }
+
+    private <T> T loadLive(Snapshot snapshot, Class<T> clazz, Type genericType) {
+        final T instance = load(snapshot, clazz, genericType);
+        if (clazz.isInterface() && builder.options.liveInterfaces && owner.reloadableRoot != null) {
+            final LiveInstances.Live<T> live = liveInstances().create(clazz, genericType, configPath(clazz),
+                    new LiveInstances.Loaded(instance, snapshot.generation), this::loadCurrent);
+            if (owner.snapshot != snapshot) {
+                // Reloaded meanwhile, the refresh might have missed the new live instance
+                live.refresh();
+            }
+            return live.instance();
+        }
+        return instance;
+    }
+
+    private <T> T load(Snapshot snapshot, Class<T> clazz, Type genericType) {
+        return snapshot.plans.plan(clazz, genericType, planPath(), false,
+                () -> configLoaderContext(clazz, snapshot.root)).load();
+    }
+
+    private LiveInstances.Loaded loadCurrent(Class<?> clazz, Type genericType) {
+        final Snapshot snapshot = owner.snapshot;
+        return new LiveInstances.Loaded(load(snapshot, clazz, genericType), snapshot.generation);
+    }
+
+    // The plans of the derived loaders are cached with the plans of the owner, distinguished by the specified path
+    private ConfigPath planPath() {
+        return builder.matcher.isSpecified() ? builder.matcher.path() : null;
     }
 
     public <T> T loadSingle(Class<T> clazz) {
@@ -88,50 +198,188 @@ public final class PocConfigLoader implements Loader {
     }
 
     public <T> T loadSingle(Class<T> clazz, Type genericType) {
-        final ConfigLoaderContext context = configLoaderContext(clazz);
-        return context.injector().loadSingle(clazz, genericType, context);
+        final Snapshot snapshot = snapshot();
+        return snapshot.plans.plan(clazz, genericType, planPath(), true,
+                () -> configLoaderContext(clazz, snapshot.root)).load();
+    }
+
+    /**
+     * The statistics of the reloads of the watched sources, see {@link Builder#watchSources(Duration)}.
+     * @return the statistics, {@link ReloadStatistics#NONE} when the sources are not watched.
+     */
+    public ReloadStatistics reloadStatistics() {
+        if (owner != this) {
+            return owner.reloadStatistics();
+        }
+        snapshot();
+        synchronized (this) {
+            return reloadableRoot == null ? ReloadStatistics.NONE : reloadableRoot.statistics();
+        }
+    }
+
+    /**
+     * Notify the listener when the values under the path change, as the watched sources are reloaded, see
+     * {@link Builder#watchSources(Duration)}. The listener is notified on the executor given by
+     * {@link Builder#listenerExecutor(Executor)}.
+     * @param prefix the dot separated path from the root of the Config Tree, empty for all the values.
+     * @param listener the listener.
+     * @return the registration, closed to stop notifying the listener.
+     */
+    public ConfigChangeListener.Registration onChange(String prefix, ConfigChangeListener listener) {
+        if (owner != this) {
+            return owner.onChange(prefix, listener);
+        }
+        snapshot();
+        return listeners().register(ConfigPathCache.path(prefix), listener);
+    }
+
+    private synchronized ChangeListeners listeners() {
+        if (listeners == null) {
+            Executor executor = builder.listenerExecutor;
+            if (executor == null) {
+                listenerExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                    final Thread thread = new Thread(runnable, "poc-config-change-listeners");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                executor = listenerExecutor;
+            }
+            listeners = new ChangeListeners(executor);
+        }
+        return listeners;
+    }
+
+    private LiveInstances liveInstances() {
+        return owner.ownedLiveInstances();
+    }
+
+    private synchronized LiveInstances ownedLiveInstances() {
+        if (liveInstances == null) {
+            liveInstances = new LiveInstances(builder.options.generateInterfaceImplementations);
+        }
+        return liveInstances;
+    }
+
+    private void publish(FrozenConfigNode root, List<ConfigPath> changed) {
+        // The reloaded Config Tree replaces the Config Tree and the plans bound to it at once
+        snapshot = new Snapshot(root, snapshot.generation + 1);
+        final LiveInstances liveInstances = this.liveInstances;
+        if (liveInstances != null) {
+            liveInstances.refresh(changed);
+        }
+        final ChangeListeners listeners = this.listeners;
+        if (listeners != null) {
+            listeners.changed(changed);
+        }
+    }
+
+    /**
+     * Stop watching the sources and notifying the listeners. The loaders derived by {@link #path(String)} do not own
+     * the sources, closing them does nothing.
+     */
+    @Override
+    public synchronized void close() {
+        if (reloadableRoot != null) {
+            reloadableRoot.close();
+        }
+        if (listenerExecutor != null) {
+            listenerExecutor.shutdown();
+        }
     }
 
     public static Builder builder() {
         return new Builder();
     }
 
-    private ConfigNode configRoot() {
-        if (configRoot == null) {
+    private Snapshot snapshot() {
+        if (owner != this) {
+            return owner.snapshot();
+        }
+        if (snapshot == null) {
             synchronized (this) {
-                if (configRoot == null) {
-                    Iterator<ConfigSource> its = builder.sources.iterator();
-                    configRoot = (ConfigNode) its.next().load(null);
-                    while (its.hasNext()) {
-                        its.next().load(configRoot);
+                if (snapshot == null) {
+                    if (builder.options.watchInterval != null) {
+                        reloadableRoot = new ReloadableRoot(builder.sources, builder.options.parallelSourceLoading);
+                        snapshot = new Snapshot(reloadableRoot.root(), 0);
+                        reloadableRoot.watch(builder.options.watchInterval, this::publish);
+                    } else {
+                        // The sources are merged, the tree does not change anymore
+                        snapshot = new Snapshot(builder.options.parallelSourceLoading && builder.sources.size() > 1
+                                ? FrozenConfigNode.merge(ReloadableRoot.load(builder.sources))
+                                : loadSources(), 0);
                     }
                 }
             }
         }
-        return configRoot;
+        return snapshot;
+    }
+
+    /**
+     * The sources are loaded one by one into the same tree, each source sees the previously loaded sources. The
+     * {@link FrozenSource}s do not read the previous sources, their shared trees are merged without copying, and
+     * copied only when a later source needs to see them.
+     */
+    private FrozenConfigNode loadSources() {
+        ConfigNode root = null;
+        final List<FrozenConfigNode> frozen = new ArrayList<>();
+        for (ConfigSource source : builder.sources) {
+            if (source instanceof FrozenSource) {
+                frozen.add(((FrozenSource) source).loadFrozen());
+            } else {
+                for (FrozenConfigNode tree : frozen) {
+                    root = root == null ? tree.toConfigNode() : root.merge(tree.toConfigNode());
+                }
+                frozen.clear();
+                root = (ConfigNode) source.load(root);
+            }
+        }
+        final List<NodeData> trees = new ArrayList<>(frozen.size() + 1);
+        if (root != null) {
+            trees.add(root);
+        }
+        trees.addAll(frozen);
+        return FrozenConfigNode.merge(trees);
     }
 
-    private ConfigLoaderContext configLoaderContext(Class<?> type) {
+    private ConfigPath configPath(Class<?> type) {
         final Optional<String> annotationPath = AnnotationReader.readPath(type);
         final String annotationPathValue = builder.options.throwOnMissingConfigurationAnnotation
                 ? annotationPath.orElseThrow(() -> new ConfigException("No @Configuration annotation found"))
                 : annotationPath.orElse("");
-        final ConfigPath path = builder.matcher.isSpecified()
+        return builder.matcher.isSpecified()
                 ? builder.matcher.path()
-                : ConfigPath.from(annotationPathValue).build();
+                : ConfigPathCache.path(annotationPathValue);
+    }
 
+    private ConfigLoaderContext configLoaderContext(Class<?> type, FrozenConfigNode root) {
         final ConfigLoaderContext context = ConfigLoaderContext
-                .builder(configRoot())
-                .path(path)
+                .builder(root)
+                .path(configPath(type))
                 .options(builder.options)
                 .build();
         return context;
     }
 
+    /**
+     * The Config Tree and the plans bound to its values, replaced together when the sources are reloaded.
+     */
+    private static final class Snapshot {
+        private final FrozenConfigNode root;
+        // Each reload publishes the next generation
+        private final long generation;
+        private final BindingPlanCache plans = new BindingPlanCache();
+
+        private Snapshot(FrozenConfigNode root, long generation) {
+            this.root = root;
+            this.generation = generation;
+        }
+    }
+
     public static class Builder {
         private final List<ConfigSource> sources = new LinkedList<>();
         private PathMatcher matcher;
         private ConfigLoaderContext.Options options = new ConfigLoaderContext.Options();
+        private Executor listenerExecutor;
         private Builder() {
             sources.add(new DefaultPropertyFileSource());
         }
@@ -140,6 +388,7 @@ public final class PocConfigLoader implements Loader {
             this.sources.addAll(builder.sources);
             this.matcher = builder.matcher;
             this.options = builder.options;
+            this.listenerExecutor = builder.listenerExecutor;
         }
 
         public Builder source(ConfigSource source) {
@@ -167,6 +416,91 @@ public final class PocConfigLoader implements Loader {
             return this;
         }
 
+        /**
+         * Implement the {@link jakarta.config.Configuration} interfaces by generated classes rather than by
+         * {@link java.lang.reflect.Proxy}. The getters of the generated class are plain field reads. The package of
+         * the interface needs to be open to this module, otherwise the {@link java.lang.reflect.Proxy} is used.
+         * @param generate Generate the classes when {@code true}. The default is {@code false}.
+         * @return The {@link Builder}
+         */
+        public Builder generatedInterfaces(boolean generate) {
+            this.options.generateInterfaceImplementations = generate;
+            return this;
+        }
+
+        /**
+         * Watch the files of the file sources, and reload the changed sources. The loads that follow a reload see
+         * the new Config Tree, a load never sees a partially reloaded Config Tree. The changes are noticed by a
+         * {@link java.nio.file.WatchService}, or by polling the files when the file system does not support it. Each
+         * source is loaded into a separate tree, in parallel when {@link #parallelSources(boolean)} is set. Use
+         * {@link PocConfigLoader#close()} to stop watching.
+         * @param pollInterval The longest time before a change is noticed, {@code null} not to watch. The default is
+         *                     {@code null}.
+         * @return The {@link Builder}
+         */
+        public Builder watchSources(Duration pollInterval) {
+            this.options.watchInterval = pollInterval;
+            return this;
+        }
+
+        /**
+         * Convert the values of the {@link jakarta.config.Configuration} interface methods when the methods are
+         * called for the first time, rather than when the interface is loaded. The values that cannot be converted
+         * then throw when the method is called. The lazy interfaces are implemented by {@link java.lang.reflect.Proxy},
+         * see {@link #generatedInterfaces(boolean)}.
+         * @param lazy Convert on the first call when {@code true}. The default is {@code false}.
+         * @return The {@link Builder}
+         */
+        public Builder lazyInterfaces(boolean lazy) {
+            this.options.lazyInterfaces = lazy;
+            return this;
+        }
+
+        /**
+         * Load the {@link jakarta.config.Configuration} interfaces as live instances, which reflect the reloads of
+         * the watched sources, see {@link #watchSources(Duration)}. A getter of the live instance reads the current
+         * instance by a single volatile read, and then calls its getter. The live instances are not used when the
+         * sources are not watched.
+         * @param live Load the live instances when {@code true}. The default is {@code false}.
+         * @return The {@link Builder}
+         */
+        public Builder liveInterfaces(boolean live) {
+            this.options.liveInterfaces = live;
+            return this;
+        }
+
+        /**
+         * The executor notifying the {@link ConfigChangeListener}s.
+         * @param executor The executor. The default is a single daemon thread of the loader.
+         * @return The {@link Builder}
+         */
+        public Builder listenerExecutor(Executor executor) {
+            this.listenerExecutor = executor;
+            return this;
+        }
+
+        /**
+         * Load the types in parallel, see {@link PocConfigLoader#loadAll(Collection)}.
+         * @param parallel Load the types in parallel when {@code true}. The default is {@code false}.
+         * @return The {@link Builder}
+         */
+        public Builder parallelLoadAll(boolean parallel) {
+            this.options.parallelLoadAll = parallel;
+            return this;
+        }
+
+        /**
+         * Load the sources in parallel into separate trees, merged in the order of the sources, or load them one by
+         * one into the same tree. The sources that need to see the previously loaded sources cannot be loaded in
+         * parallel.
+         * @param parallel Load the sources in parallel when {@code true}. The default is {@code false}.
+         * @return The {@link Builder}
+         */
+        public Builder parallelSources(boolean parallel) {
+            this.options.parallelSourceLoading = parallel;
+            return this;
+        }
+
         private Builder path(PathMatcher matcher) {
             this.matcher = matcher;
             return this;
@@ -16,13 +16,19 @@
 
 package poc.jakarta.config.internal.loader;
 
+import jakarta.config.ConfigException;
 import jakarta.config.NoSuchObjectException;
 import poc.jakarta.config.internal.node.ConfigPath;
+import poc.jakarta.config.internal.node.ConfigPathCache;
 import poc.jakarta.config.node.Data;
 import poc.jakarta.config.value.ConfigNodeValue;
 import poc.jakarta.config.value.NodeValueConvertor;
+import poc.jakarta.config.value.PrimitiveNodeValueConvertor;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 abstract class AbstractStandaloneInjector implements Injector {
@@ -34,68 +40,104 @@ abstract class AbstractStandaloneInjector implements Injector {
 
     @Override
     public <T> T load(Class<T> clazz, Type type, ConfigLoaderContext ctx) {
-        T t = ctx.builder.instantiator.load(clazz, type);
-        inject(clazz, t, ctx);
-        return t;
+        return plan(clazz, type, ctx).load();
     }
 
     public <T> T loadSingle(Class<T> clazz, Type type, ConfigLoaderContext ctx) {
+        return planSingle(clazz, type, ctx).load();
+    }
+
+    @Override
+    public <T> BindingPlan<T> plan(Class<T> clazz, Type type, ConfigLoaderContext ctx) {
+        return plan(clazz, type, fetchData(ctx), ctx);
+    }
+
+    @Override
+    public <T> BindingPlan<T> plan(Class<T> clazz, Type type, Data data, ConfigLoaderContext ctx) {
+        final List<BindingPlan.Binding<T>> bindings = new ArrayList<>();
+        for (Injectable<T> injectable : injectables(clazz)) {
+            binding(clazz, injectable, data, ctx).ifPresent(bindings::add);
+        }
+        return BindingPlan.of(clazz, type, ctx.builder.instantiator, bindings);
+    }
+
+    @Override
+    public <T> BindingPlan<T> planSingle(Class<T> clazz, Type type, ConfigLoaderContext ctx) {
         Data data = fetchData(ctx);
         if (data.value().isEmpty()) {
             throw new NoSuchObjectException("No value for key " + ctx.builder.path.toString());
         }
-        return ctx.builder.convertors.convert(clazz, type, data.valueOrNull());
-
+        final ConfigNodeValue value = data.valueOrNull();
+        final NodeValueConvertor convertor = ctx.builder.convertors.findConvertor(clazz, type, value.defaultType())
+                .orElseThrow(() -> new ConfigException(
+                        "Unable to convert type " + clazz + " generic type " + type + " from " + value.defaultType()));
+        return BindingPlan.single(clazz, type, convertor, value);
     }
 
-    protected <T> void inject(Class<T> type, T t, ConfigLoaderContext ctx) {
-        inject(type, t, fetchData(ctx), ctx);
-    }
+    /**
+     * The {@link Injectable}s of the user type, the fields of a class, or the methods of an interface.
+     * @param type the user type.
+     * @param <T> the user type.
+     * @return the {@link Injectable}s of the user type.
+     */
+    protected abstract <T> Collection<? extends Injectable<T>> injectables(Class<T> type);
 
-    protected <T> void inject(T t, Injectable<T> injectable, Data data, ConfigLoaderContext ctx) {
+    protected <T> Optional<BindingPlan.Binding<T>> binding(Class<?> clazz, Injectable<T> injectable, Data data,
+                                                           ConfigLoaderContext ctx) {
         Optional<Data.ChildKeyValue> property = data.property(injectable.name());
         Optional<NodeValueConvertor> nodeValueConvertor = Optional.empty();
         ConfigNodeValue nodeValue = null;
         if (property.isPresent()) {
             nodeValue = property.get().valueOrNull(); // value is always present, filtered only nodes with value to Data
-            final ConfigNodeValue value = nodeValue;
             nodeValueConvertor = ctx.builder.convertors.findConvertor(
                     injectable.getType(), injectable.getGenericType(), nodeValue.defaultType());
             // The convertor might not exist if the leaf has the same path as a sub-node - do not throw an exception
-            nodeValueConvertor.ifPresent((convertor) -> {
-                Object converted = convertor.convert(injectable.getType(), injectable.getGenericType(), value.defaultValue());
-                injectable.inject(t, converted);
-            });
+            if (nodeValueConvertor.isPresent()) {
+                return Optional.of(valueBinding(injectable, nodeValueConvertor.get(), nodeValue, ctx));
+            }
         } else if (isClassInjector && ctx.builder.options.throwOnMissingProperty) {
             String path = ctx.builder.path.toString();
             throw new NoSuchObjectException("No Config Value for property="
                     + path
                     + (path.isEmpty() ? "" : ".")
                     + injectable.name()
-                    + " (" + t.getClass() + "." + injectable.name() + ")"
+                    + " (" + clazz + "." + injectable.name() + ")"
             );
         }
-        Optional<Data> subData = null;
-        if (nodeValueConvertor.isEmpty()) {
-            // sub-node structure ?
-            ConfigPath newPath = ConfigPath.from(ctx.builder.path).append(injectable.name()).build();
-            subData = ConfigLoaderContext.configNodeWalker.walk(ctx.builder.root, newPath);
-            subData.ifPresent((d) -> {
-                ConfigLoaderContext subCtx = new ConfigLoaderContext.Builder(ctx.builder)
-                        .path(newPath)
-                        .build();
-                Object subInstance = ctx.builder.instantiator.load(injectable.getType(), injectable.getGenericType());
-                ctx.injector().inject((Class<T>) injectable.getType(), (T) subInstance, d, subCtx);
-                injectable.inject(t, subInstance);
-            });
+        // sub-node structure ?
+        ConfigPath newPath = ConfigPathCache.child(ctx.builder.path, injectable.name());
+        Optional<Data> subData = ConfigLoaderContext.configNodeWalker.walk(ctx.builder.root, newPath);
+        if (subData.isPresent()) {
+            ConfigLoaderContext subCtx = new ConfigLoaderContext.Builder(ctx.builder)
+                    .path(newPath)
+                    .build();
+            BindingPlan<?> subPlan = ctx.injector()
+                    .plan(injectable.getType(), injectable.getGenericType(), subData.get(), subCtx);
+            return Optional.of(new BindingPlan.SubNodeBinding<>(injectable, subPlan));
         }
-        if (property.isPresent() && nodeValueConvertor.isEmpty() && subData.isEmpty()) {
+        if (property.isPresent()) {
             // If there is a property of the same name as the injectable that should be injected
             // And there is no convertor for the property
             // And it is not a Config sub-node
             // throw the exception
             ctx.builder.convertors.convert(injectable.getType(), injectable.getGenericType(), nodeValue);
         }
+        return Optional.empty();
+    }
+
+    /**
+     * The binding of the value to the {@link Injectable}, converting the value when the instance is loaded.
+     */
+    protected <T> BindingPlan.Binding<T> valueBinding(Injectable<T> injectable, NodeValueConvertor convertor,
+                                                      ConfigNodeValue value, ConfigLoaderContext ctx) {
+        if (convertor instanceof PrimitiveNodeValueConvertor && value.defaultValue() instanceof CharSequence) {
+            final Optional<BindingPlan.Binding<T>> binding = BindingPlan.PrimitiveValueBinding.of(
+                    injectable, (PrimitiveNodeValueConvertor) convertor, (CharSequence) value.defaultValue());
+            if (binding.isPresent()) {
+                return binding.get();
+            }
+        }
+        return new BindingPlan.ValueBinding<>(injectable, convertor, value);
     }
 
     protected Data fetchData(ConfigLoaderContext ctx) {
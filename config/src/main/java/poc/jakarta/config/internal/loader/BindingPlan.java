@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.internal.loader;
+
+import poc.jakarta.config.value.ConfigNodeValue;
+import poc.jakarta.config.value.NodeValueConvertor;
+import poc.jakarta.config.value.PrimitiveNodeValueConvertor;
+
+import jakarta.config.ConfigException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <p>
+ *     The precomputed binding of a Config Node to a user type. The plan holds everything that does not change between
+ *     two loads of the same type from the same Config Tree: the {@link Injectable injectables}, the resolved
+ *     {@link NodeValueConvertor convertors}, the resolved {@link ConfigNodeValue values} and the plans of the sub-nodes.
+ * </p>
+ * <p>
+ *     Loading the user type from a plan is then just instantiating the type and assigning the precomputed values.
+ *     The plan is immutable and can be shared between threads.
+ * </p>
+ * @param <T> the user type.
+ */
+public abstract class BindingPlan<T> {
+
+    private BindingPlan() {
+    }
+
+    /**
+     * Create a new instance of the user type filled with the data from the Config Tree.
+     * @return the new instance.
+     */
+    public abstract T load();
+
+    /* package */ static <T> BindingPlan<T> of(Class<T> clazz, Type type, Instantiator instantiator, List<Binding<T>> bindings) {
+        return new InjectingPlan<>(clazz, type, instantiator, bindings);
+    }
+
+    /* package */ static <T> BindingPlan<T> constructed(MethodHandle constructor, int size, List<Binding<Object[]>> bindings) {
+        return new ConstructingPlan<>(constructor, size, bindings);
+    }
+
+    /* package */ static <T> BindingPlan<T> single(Class<T> clazz, Type type, NodeValueConvertor convertor, ConfigNodeValue value) {
+        return new SinglePlan<>(clazz, type, convertor, value);
+    }
+
+    /**
+     * A single step of the plan, assigning a value to a single {@link Injectable}.
+     * @param <T> the user type.
+     */
+    /* package */ interface Binding<T> {
+        void bind(T instance);
+    }
+
+    /* package */ static final class ValueBinding<T> implements Binding<T> {
+        private final Injectable<T> injectable;
+        private final NodeValueConvertor convertor;
+        private final ConfigNodeValue value;
+
+        ValueBinding(Injectable<T> injectable, NodeValueConvertor convertor, ConfigNodeValue value) {
+            this.injectable = injectable;
+            this.convertor = convertor;
+            this.value = value;
+        }
+
+        @Override
+        public void bind(T instance) {
+            Object converted = value.get(injectable.getType(), injectable.getGenericType(), convertor);
+            injectable.inject(instance, converted);
+        }
+    }
+
+    /**
+     * Converts the text value to the primitive type of the {@link Injectable} and injects it without boxing.
+     */
+    /* package */ abstract static class PrimitiveValueBinding<T> implements Binding<T> {
+        final Injectable<T> injectable;
+        final PrimitiveNodeValueConvertor convertor;
+        final CharSequence value;
+
+        private PrimitiveValueBinding(Injectable<T> injectable, PrimitiveNodeValueConvertor convertor, CharSequence value) {
+            this.injectable = injectable;
+            this.convertor = convertor;
+            this.value = value;
+        }
+
+        static <T> Optional<Binding<T>> of(Injectable<T> injectable, PrimitiveNodeValueConvertor convertor,
+                                           CharSequence value) {
+            final Class<?> type = injectable.getType();
+            if (type == int.class) {
+                return Optional.of(new PrimitiveValueBinding<T>(injectable, convertor, value) {
+                    @Override
+                    public void bind(T instance) {
+                        this.injectable.injectInt(instance, this.convertor.convertToInt(this.value));
+                    }
+                });
+            } else if (type == long.class) {
+                return Optional.of(new PrimitiveValueBinding<T>(injectable, convertor, value) {
+                    @Override
+                    public void bind(T instance) {
+                        this.injectable.injectLong(instance, this.convertor.convertToLong(this.value));
+                    }
+                });
+            } else if (type == boolean.class) {
+                return Optional.of(new PrimitiveValueBinding<T>(injectable, convertor, value) {
+                    @Override
+                    public void bind(T instance) {
+                        this.injectable.injectBoolean(instance, this.convertor.convertToBoolean(this.value));
+                    }
+                });
+            } else if (type == double.class) {
+                return Optional.of(new PrimitiveValueBinding<T>(injectable, convertor, value) {
+                    @Override
+                    public void bind(T instance) {
+                        this.injectable.injectDouble(instance, this.convertor.convertToDouble(this.value));
+                    }
+                });
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Binds the value to be converted on the first access, see {@link StandaloneInterfaceInstantiator.LazyValue}.
+     */
+    /* package */ static final class LazyValueBinding<T> implements Binding<T> {
+        private final Injectable<T> injectable;
+        private final NodeValueConvertor convertor;
+        private final ConfigNodeValue value;
+
+        LazyValueBinding(Injectable<T> injectable, NodeValueConvertor convertor, ConfigNodeValue value) {
+            this.injectable = injectable;
+            this.convertor = convertor;
+            this.value = value;
+        }
+
+        @Override
+        public void bind(T instance) {
+            injectable.inject(instance, new StandaloneInterfaceInstantiator.LazyValue(injectable, convertor, value));
+        }
+    }
+
+    /* package */ static final class SubNodeBinding<T> implements Binding<T> {
+        private final Injectable<T> injectable;
+        private final BindingPlan<?> plan;
+
+        SubNodeBinding(Injectable<T> injectable, BindingPlan<?> plan) {
+            this.injectable = injectable;
+            this.plan = plan;
+        }
+
+        @Override
+        public void bind(T instance) {
+            injectable.inject(instance, plan.load());
+        }
+    }
+
+    private static final class InjectingPlan<T> extends BindingPlan<T> {
+        private final Class<T> clazz;
+        private final Type type;
+        private final Instantiator instantiator;
+        private final Binding<T>[] bindings;
+
+        private InjectingPlan(Class<T> clazz, Type type, Instantiator instantiator, List<Binding<T>> bindings) {
+            this.clazz = clazz;
+            this.type = type;
+            this.instantiator = instantiator;
+            this.bindings = bindings.toArray(new Binding[0]);
+        }
+
+        @Override
+        public T load() {
+            T t = instantiator.load(clazz, type);
+            for (Binding<T> binding : bindings) {
+                binding.bind(t);
+            }
+            return t;
+        }
+    }
+
+    /**
+     * Collects the values to an array passed to the constructor, see {@link InterfaceClassGenerator}.
+     */
+    private static final class ConstructingPlan<T> extends BindingPlan<T> {
+        private final MethodHandle constructor;
+        private final int size;
+        private final Binding<Object[]>[] bindings;
+
+        private ConstructingPlan(MethodHandle constructor, int size, List<Binding<Object[]>> bindings) {
+            this.constructor = constructor;
+            this.size = size;
+            this.bindings = bindings.toArray(new Binding[0]);
+        }
+
+        @Override
+        public T load() {
+            final Object[] values = new Object[size];
+            for (Binding<Object[]> binding : bindings) {
+                binding.bind(values);
+            }
+            try {
+                return (T) (Object) constructor.invokeExact(values);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ConfigException(e);
+            }
+        }
+    }
+
+    private static final class SinglePlan<T> extends BindingPlan<T> {
+        private final Class<T> clazz;
+        private final Type type;
+        private final NodeValueConvertor convertor;
+        private final ConfigNodeValue value;
+
+        private SinglePlan(Class<T> clazz, Type type, NodeValueConvertor convertor, ConfigNodeValue value) {
+            this.clazz = clazz;
+            this.type = type;
+            this.convertor = convertor;
+            this.value = value;
+        }
+
+        @Override
+        public T load() {
+            return value.get(clazz, type, convertor);
+        }
+    }
+}
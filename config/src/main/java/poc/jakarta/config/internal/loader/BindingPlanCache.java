@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.internal.loader;
+
+import poc.jakarta.config.internal.node.ConfigPath;
+
+import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe cache of the {@link BindingPlan}s keyed by the user class, the user generic type and the requested path.
+ * The plans are bound to a single Config Tree, hence the cache is not meant to be shared between different roots.
+ */
+public final class BindingPlanCache {
+    private final ConcurrentMap<Key, BindingPlan<?>> plans = new ConcurrentHashMap<>();
+
+    /**
+     * Get the cached {@link BindingPlan} for the user type, or compute a new one and cache it.
+     * The plan is not cached when it cannot be computed, the exception is rethrown.
+     *
+     * @param clazz   the user provided class.
+     * @param type    the user provided type.
+     * @param path    the requested path, or {@code null} when the path is not specified.
+     * @param single  whether the plan is for a single value rather than for a structure.
+     * @param context the {@link ConfigLoaderContext} used to compute a new plan.
+     * @param <T>     the user type.
+     * @return the {@link BindingPlan} for the user type.
+     */
+    public <T> BindingPlan<T> plan(Class<T> clazz, Type type, ConfigPath path, boolean single,
+                                   Supplier<ConfigLoaderContext> context) {
+        final Key key = new Key(clazz, type, path, single);
+        BindingPlan<?> plan = plans.get(key);
+        if (plan == null) {
+            // Computed outside of the map lock, two threads computing the same plan is benign
+            final ConfigLoaderContext ctx = context.get();
+            plan = single
+                    ? ctx.injector().planSingle(clazz, type, ctx)
+                    : ctx.injector().plan(clazz, type, ctx);
+            final BindingPlan<?> previous = plans.putIfAbsent(key, plan);
+            if (previous != null) {
+                plan = previous;
+            }
+        }
+        return (BindingPlan<T>) plan;
+    }
+
+    public int size() {
+        return plans.size();
+    }
+
+    public void clear() {
+        plans.clear();
+    }
+
+    private static final class Key {
+        private final Class<?> clazz;
+        private final Type type;
+        private final ConfigPath path;
+        private final boolean single;
+        private final int hash;
+
+        private Key(Class<?> clazz, Type type, ConfigPath path, boolean single) {
+            this.clazz = clazz;
+            this.type = type;
+            this.path = path;
+            this.single = single;
+            this.hash = Objects.hash(clazz, type, path, single);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key that = (Key) o;
+            return clazz == that.clazz
+                    && single == that.single
+                    && Objects.equals(type, that.type)
+                    && Objects.equals(path, that.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.internal.loader;
+
+import poc.jakarta.config.ConfigChangeListener;
+import poc.jakarta.config.internal.node.ConfigPath;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * The {@link ConfigChangeListener}s registered for Config Path prefixes. The listeners are notified on the executor,
+ * the changes that happen while the notification of a listener is pending are added to the pending notification.
+ */
+public final class ChangeListeners {
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+    private final Executor executor;
+
+    public ChangeListeners(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Register the listener.
+     * @param prefix the path of the values the listener is interested in.
+     * @param listener the listener.
+     * @return the registration.
+     */
+    public ConfigChangeListener.Registration register(ConfigPath prefix, ConfigChangeListener listener) {
+        final Registration registration = new Registration(prefix, listener);
+        registrations.add(registration);
+        return registration;
+    }
+
+    /**
+     * Notify the listeners of the changed paths.
+     * @param changed the paths of the changed values.
+     */
+    public void changed(List<ConfigPath> changed) {
+        for (Registration registration : registrations) {
+            List<String> paths = null;
+            for (ConfigPath path : changed) {
+                if (path.startsWith(registration.prefix)) {
+                    if (paths == null) {
+                        paths = new ArrayList<>();
+                    }
+                    paths.add(path.toString());
+                }
+            }
+            if (paths != null) {
+                registration.changed(paths);
+            }
+        }
+    }
+
+    private final class Registration implements ConfigChangeListener.Registration, Runnable {
+        private final ConfigPath prefix;
+        private final ConfigChangeListener listener;
+        private Set<String> pending; // guarded by this
+
+        private Registration(ConfigPath prefix, ConfigChangeListener listener) {
+            this.prefix = prefix;
+            this.listener = listener;
+        }
+
+        private void changed(List<String> paths) {
+            final boolean schedule;
+            synchronized (this) {
+                schedule = pending == null;
+                if (schedule) {
+                    pending = new LinkedHashSet<>();
+                }
+                pending.addAll(paths);
+            }
+            if (schedule) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            final List<String> paths;
+            synchronized (this) {
+                paths = List.copyOf(pending);
+                pending = null;
+            }
+            if (registrations.contains(this)) {
+                listener.onChange(paths);
+            }
+        }
+
+        @Override
+        public void close() {
+            registrations.remove(this);
+        }
+    }
+}
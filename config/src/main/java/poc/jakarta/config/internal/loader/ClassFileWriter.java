@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.internal.loader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal writer of the Java class file format, capable of writing classes with fields and straight-line methods
+ * (no branches, hence no stack map frames are needed). Used to generate the {@link jakarta.config.Configuration}
+ * interface implementations without any bytecode library dependency.
+ */
+final class ClassFileWriter {
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_PRIVATE = 0x0002;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+    static final int ACC_SYNTHETIC = 0x1000;
+
+    private static final int JAVA_11_VERSION = 55;
+
+    private static final byte CONSTANT_UTF8 = 1;
+    private static final byte CONSTANT_CLASS = 7;
+    private static final byte CONSTANT_STRING = 8;
+    private static final byte CONSTANT_FIELDREF = 9;
+    private static final byte CONSTANT_METHODREF = 10;
+    private static final byte CONSTANT_INTERFACE_METHODREF = 11;
+    private static final byte CONSTANT_NAME_AND_TYPE = 12;
+
+    private final ByteArrayOutputStream constantPoolBytes = new ByteArrayOutputStream();
+    private final DataOutputStream constantPool = new DataOutputStream(constantPoolBytes);
+    private final Map<String, Integer> constants = new HashMap<>();
+    private int constantCount = 1;
+
+    private final int access;
+    private final int thisClass;
+    private final int superClass;
+    private final int[] interfaces;
+    private final List<byte[]> fields = new ArrayList<>();
+    private final List<byte[]> methods = new ArrayList<>();
+
+    /**
+     * @param access        the class access flags.
+     * @param name          the internal name of the class.
+     * @param superName     the internal name of the super class.
+     * @param interfaceNames the internal names of the implemented interfaces.
+     */
+    ClassFileWriter(int access, String name, String superName, String... interfaceNames) {
+        this.access = access;
+        this.thisClass = classConstant(name);
+        this.superClass = classConstant(superName);
+        this.interfaces = new int[interfaceNames.length];
+        for (int i = 0; i != interfaceNames.length; i++) {
+            interfaces[i] = classConstant(interfaceNames[i]);
+        }
+    }
+
+    void field(int access, String name, String descriptor) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        write(() -> {
+            out.writeShort(access);
+            out.writeShort(utf8(name));
+            out.writeShort(utf8(descriptor));
+            out.writeShort(0); // attributes
+        });
+        fields.add(bytes.toByteArray());
+    }
+
+    Code method(int access, String name, String descriptor) {
+        return new Code(access, name, descriptor);
+    }
+
+    byte[] toByteArray() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        write(() -> {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0); // minor
+            out.writeShort(JAVA_11_VERSION);
+            out.writeShort(constantCount);
+            constantPoolBytes.writeTo(out);
+            out.writeShort(access);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(interfaces.length);
+            for (int i : interfaces) {
+                out.writeShort(i);
+            }
+            out.writeShort(fields.size());
+            for (byte[] field : fields) {
+                out.write(field);
+            }
+            out.writeShort(methods.size());
+            for (byte[] method : methods) {
+                out.write(method);
+            }
+            out.writeShort(0); // attributes
+        });
+        return bytes.toByteArray();
+    }
+
+    /**
+     * The bytecode of a single method. The instructions are appended in order, {@link #end(int, int)} adds the method
+     * to the class.
+     */
+    final class Code {
+        private final int access;
+        private final String name;
+        private final String descriptor;
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream code = new DataOutputStream(bytes);
+
+        private Code(int access, String name, String descriptor) {
+            this.access = access;
+            this.name = name;
+            this.descriptor = descriptor;
+        }
+
+        Code op(int opcode) {
+            write(() -> code.writeByte(opcode));
+            return this;
+        }
+
+        Code aload(int index) {
+            return op(0x2A + index); // aload_<n>
+        }
+
+        Code pushInt(int value) {
+            write(() -> {
+                code.writeByte(0x11); // sipush
+                code.writeShort(value);
+            });
+            return this;
+        }
+
+        Code ldc(String value) {
+            final int index = stringConstant(value);
+            write(() -> {
+                code.writeByte(0x13); // ldc_w
+                code.writeShort(index);
+            });
+            return this;
+        }
+
+        Code type(int opcode, String internalName) {
+            final int index = classConstant(internalName);
+            write(() -> {
+                code.writeByte(opcode);
+                code.writeShort(index);
+            });
+            return this;
+        }
+
+        Code field(int opcode, String owner, String name, String descriptor) {
+            final int index = memberConstant(CONSTANT_FIELDREF, owner, name, descriptor);
+            write(() -> {
+                code.writeByte(opcode);
+                code.writeShort(index);
+            });
+            return this;
+        }
+
+        Code method(int opcode, String owner, String name, String descriptor) {
+            final int index = memberConstant(CONSTANT_METHODREF, owner, name, descriptor);
+            write(() -> {
+                code.writeByte(opcode);
+                code.writeShort(index);
+            });
+            return this;
+        }
+
+        /**
+         * The {@code invokeinterface} instruction.
+         * @param count the number of the argument slots, including the receiver.
+         */
+        Code invokeInterface(String owner, String name, String descriptor, int count) {
+            final int index = memberConstant(CONSTANT_INTERFACE_METHODREF, owner, name, descriptor);
+            write(() -> {
+                code.writeByte(0xB9); // invokeinterface
+                code.writeShort(index);
+                code.writeByte(count);
+                code.writeByte(0);
+            });
+            return this;
+        }
+
+        void end(int maxStack, int maxLocals) {
+            final byte[] instructions = bytes.toByteArray();
+            final ByteArrayOutputStream method = new ByteArrayOutputStream();
+            final DataOutputStream out = new DataOutputStream(method);
+            final int codeAttribute = utf8("Code");
+            write(() -> {
+                out.writeShort(access);
+                out.writeShort(utf8(name));
+                out.writeShort(utf8(descriptor));
+                out.writeShort(1); // attributes
+                out.writeShort(codeAttribute);
+                out.writeInt(12 + instructions.length);
+                out.writeShort(maxStack);
+                out.writeShort(maxLocals);
+                out.writeInt(instructions.length);
+                out.write(instructions);
+                out.writeShort(0); // exception table
+                out.writeShort(0); // attributes
+            });
+            methods.add(method.toByteArray());
+        }
+    }
+
+    private int utf8(String value) {
+        return constant("U" + value, () -> {
+            constantPool.writeByte(CONSTANT_UTF8);
+            constantPool.writeUTF(value);
+        });
+    }
+
+    private int classConstant(String internalName) {
+        final int name = utf8(internalName);
+        return constant("C" + internalName, () -> {
+            constantPool.writeByte(CONSTANT_CLASS);
+            constantPool.writeShort(name);
+        });
+    }
+
+    private int stringConstant(String value) {
+        final int string = utf8(value);
+        return constant("S" + value, () -> {
+            constantPool.writeByte(CONSTANT_STRING);
+            constantPool.writeShort(string);
+        });
+    }
+
+    private int memberConstant(byte tag, String owner, String name, String descriptor) {
+        final int ownerIndex = classConstant(owner);
+        final int nameIndex = utf8(name);
+        final int descriptorIndex = utf8(descriptor);
+        final int nameAndType = constant("N" + name + ' ' + descriptor, () -> {
+            constantPool.writeByte(CONSTANT_NAME_AND_TYPE);
+            constantPool.writeShort(nameIndex);
+            constantPool.writeShort(descriptorIndex);
+        });
+        return constant("M" + tag + owner + '.' + name + ' ' + descriptor, () -> {
+            constantPool.writeByte(tag);
+            constantPool.writeShort(ownerIndex);
+            constantPool.writeShort(nameAndType);
+        });
+    }
+
+    private int constant(String key, IOAction writer) {
+        final Integer index = constants.get(key);
+        if (index != null) {
+            return index;
+        }
+        write(writer);
+        constants.put(key, constantCount);
+        return constantCount++;
+    }
+
+    private static void write(IOAction action) {
+        try {
+            action.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IOAction {
+        void run() throws IOException;
+    }
+}
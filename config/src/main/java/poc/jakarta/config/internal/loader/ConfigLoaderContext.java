@@ -16,18 +16,22 @@
 
 package poc.jakarta.config.internal.loader;
 
-import poc.jakarta.config.internal.node.ConfigNode;
 import poc.jakarta.config.internal.node.ConfigNodeWalker;
 import poc.jakarta.config.internal.node.ConfigPath;
+import poc.jakarta.config.internal.node.ConfigPathCache;
+import poc.jakarta.config.internal.node.FrozenConfigNode;
 import poc.jakarta.config.internal.util.AnnotationReader;
 import poc.jakarta.config.internal.value.convertors.ValueConvertors;
 import poc.jakarta.config.value.NodeValueConvertors;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Optional;
 
 public final class ConfigLoaderContext {
     static final ConfigNodeWalker configNodeWalker = new ConfigNodeWalker();
+    // Shared, so that the convertors found for the types are cached across the loads
+    private static final NodeValueConvertors defaultConvertors = new ValueConvertors(Collections.emptyList());
 
     /* package */ final Builder builder;
 
@@ -35,7 +39,7 @@ public final class ConfigLoaderContext {
         this.builder = builder;
     }
 
-    public static Builder builder(ConfigNode root) {
+    public static Builder builder(FrozenConfigNode root) {
         return new Builder(root);
     }
 
@@ -44,14 +48,14 @@ public final class ConfigLoaderContext {
     }
 
     public static class Builder {
-        final ConfigNode root;
+        final FrozenConfigNode root;
         ConfigPath path;
         Instantiator instantiator;
         Injector injector;
         NodeValueConvertors convertors;
         Options options = new Options(); // Default
 
-        public Builder(ConfigNode root) {
+        public Builder(FrozenConfigNode root) {
             this.root = root;
         }
 
@@ -65,7 +69,7 @@ public final class ConfigLoaderContext {
         }
 
         public Builder path(String path) {
-            this.path = ConfigPath.from(path).build();
+            this.path = ConfigPathCache.path(path);
             return this;
         }
 
@@ -95,7 +99,7 @@ public final class ConfigLoaderContext {
                 injector = new StandaloneInjector();
             }
             if (convertors == null) {
-                convertors = new ValueConvertors(Collections.emptyList());
+                convertors = defaultConvertors;
             }
             return new ConfigLoaderContext(this);
         }
@@ -105,6 +109,12 @@ public final class ConfigLoaderContext {
         public boolean throwOnMissingProperty = true;
         public boolean throwOnMissingConfigurationAnnotation = true;
         public boolean exposeAllConfigProperties = true;
+        public boolean generateInterfaceImplementations = false;
+        public boolean parallelSourceLoading = false;
+        public boolean liveInterfaces = false;
+        public boolean lazyInterfaces = false;
+        public boolean parallelLoadAll = false;
+        public Duration watchInterval = null;
 
         public Options() {
             // default
@@ -114,6 +124,12 @@ public final class ConfigLoaderContext {
             throwOnMissingConfigurationAnnotation = other.throwOnMissingConfigurationAnnotation;
             throwOnMissingProperty = other.throwOnMissingProperty;
             exposeAllConfigProperties = other.exposeAllConfigProperties;
+            generateInterfaceImplementations = other.generateInterfaceImplementations;
+            parallelSourceLoading = other.parallelSourceLoading;
+            liveInterfaces = other.liveInterfaces;
+            lazyInterfaces = other.lazyInterfaces;
+            parallelLoadAll = other.parallelLoadAll;
+            watchInterval = other.watchInterval;
         }
     }
 
@@ -18,22 +18,110 @@ package poc.jakarta.config.internal.loader;
 
 import jakarta.config.ConfigException;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 
+/**
+ * The {@link Injectable} setting a field using a {@link MethodHandle} created once when the injectable is created.
+ * The accessibility is checked once, too. The {@code int}, {@code long}, {@code boolean}, and {@code double} fields
+ * have specialized setters so that the value is not boxed.
+ */
 final class FieldInjectable<T> implements Injectable<T> {
+    private static final MethodType OBJECT_SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
     private final Field field;
+    private final MethodHandle setter;
+    private final MethodHandle primitiveSetter;
+    private final IllegalAccessException inaccessible;
 
     FieldInjectable(Field field) {
         this.field = field;
+        MethodHandle setter = null;
+        IllegalAccessException inaccessible = null;
+        try {
+            setter = setter(field);
+        } catch (IllegalAccessException e) {
+            // Fail later, when a value is injected
+            inaccessible = e;
+        }
+        this.inaccessible = inaccessible;
+        this.setter = setter == null ? null : setter.asType(OBJECT_SETTER);
+        this.primitiveSetter = setter == null || !field.getType().isPrimitive()
+                ? null
+                : setter.asType(MethodType.methodType(void.class, Object.class, field.getType()));
     }
 
     @Override
     public void inject(T instance, Object value) {
-        ReflectUtil.ensureAccessible(field, instance);
         try {
-            field.set(instance, value);
-        } catch (IllegalAccessException e) {
+            setter().invokeExact((Object) instance, value);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ConfigException(e);
+        }
+    }
+
+    @Override
+    public void injectInt(T instance, int value) {
+        if (field.getType() != int.class) {
+            Injectable.super.injectInt(instance, value);
+            return;
+        }
+        try {
+            primitiveSetter().invokeExact((Object) instance, value);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ConfigException(e);
+        }
+    }
+
+    @Override
+    public void injectLong(T instance, long value) {
+        if (field.getType() != long.class) {
+            Injectable.super.injectLong(instance, value);
+            return;
+        }
+        try {
+            primitiveSetter().invokeExact((Object) instance, value);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ConfigException(e);
+        }
+    }
+
+    @Override
+    public void injectBoolean(T instance, boolean value) {
+        if (field.getType() != boolean.class) {
+            Injectable.super.injectBoolean(instance, value);
+            return;
+        }
+        try {
+            primitiveSetter().invokeExact((Object) instance, value);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ConfigException(e);
+        }
+    }
+
+    @Override
+    public void injectDouble(T instance, double value) {
+        if (field.getType() != double.class) {
+            Injectable.super.injectDouble(instance, value);
+            return;
+        }
+        try {
+            primitiveSetter().invokeExact((Object) instance, value);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
             throw new ConfigException(e);
         }
     }
@@ -53,4 +141,26 @@ final class FieldInjectable<T> implements Injectable<T> {
         return field.getName();
     }
 
+    private MethodHandle setter() {
+        if (inaccessible != null) {
+            throw new ConfigException(inaccessible);
+        }
+        return setter;
+    }
+
+    private MethodHandle primitiveSetter() {
+        if (inaccessible != null) {
+            throw new ConfigException(inaccessible);
+        }
+        return primitiveSetter;
+    }
+
+    private static MethodHandle setter(Field field) throws IllegalAccessException {
+        // The package needs to be open to this module, otherwise only public fields are accessible
+        field.trySetAccessible();
+        final MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+        return Modifier.isStatic(field.getModifiers())
+                ? MethodHandles.dropArguments(setter, 0, field.getDeclaringClass())
+                : setter;
+    }
 }
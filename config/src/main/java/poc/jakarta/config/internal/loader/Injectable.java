@@ -21,6 +21,22 @@ import java.lang.reflect.Type;
 interface Injectable<T> {
     void inject(T instance, Object value);
 
+    default void injectInt(T instance, int value) {
+        inject(instance, value);
+    }
+
+    default void injectLong(T instance, long value) {
+        inject(instance, value);
+    }
+
+    default void injectBoolean(T instance, boolean value) {
+        inject(instance, value);
+    }
+
+    default void injectDouble(T instance, double value) {
+        inject(instance, value);
+    }
+
     Class<?> getType();
 
     Type getGenericType();
@@ -25,5 +25,9 @@ public interface Injector {
 
     <T> T loadSingle(Class<T> clazz, Type type, ConfigLoaderContext ctx);
 
-    <T> void inject(Class<T> type, T t, Data data, ConfigLoaderContext ctx);
+    <T> BindingPlan<T> plan(Class<T> clazz, Type type, ConfigLoaderContext ctx);
+
+    <T> BindingPlan<T> plan(Class<T> clazz, Type type, Data data, ConfigLoaderContext ctx);
+
+    <T> BindingPlan<T> planSingle(Class<T> clazz, Type type, ConfigLoaderContext ctx);
 }
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.internal.loader;
+
+import jakarta.config.NoSuchObjectException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>
+ *     Generates a final implementation class of a {@link jakarta.config.Configuration} interface, with one final field
+ *     per method, so that the getters are plain field reads, including the primitive return types that are not boxed.
+ *     The generated class has a single constructor taking the values of the methods, in the order of the methods.
+ * </p>
+ * <p>
+ *     The methods without a value are known when the class is generated, these methods throw
+ *     {@link NoSuchObjectException}. Hence a class is generated for each interface and the set of the methods with values.
+ * </p>
+ * <p>
+ *     The live implementation of an interface has a single final field holding the {@link AtomicReference} to the
+ *     current instance, each method gets the current instance and calls the same method on it.
+ * </p>
+ * <p>
+ *     The class is defined in the package of the interface, as a hidden class on JDK 15+ when the interface is in
+ *     this module, or as an ordinary class otherwise. The package needs to be open to this module. When it is not
+ *     possible to generate the class, the {@link java.lang.reflect.Proxy} is to be used.
+ * </p>
+ */
+final class InterfaceClassGenerator {
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final MethodType LIVE_CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, AtomicReference.class);
+    private static final String OBJECT = "java/lang/Object";
+    private static final String ATOMIC_REFERENCE = "java/util/concurrent/atomic/AtomicReference";
+    private static final String SUFFIX = "$$PocConfig";
+    private static final String LIVE_SUFFIX = "$$PocConfigLive";
+    private static final AtomicInteger counter = new AtomicInteger();
+    private static final MethodHandle defineHiddenClass = defineHiddenClass();
+    private static final System.Logger LOGGER = System.getLogger(InterfaceClassGenerator.class.getName());
+
+    private static final ClassValue<Map<BitSet, Optional<MethodHandle>>> constructors = new ClassValue<>() {
+        @Override
+        protected Map<BitSet, Optional<MethodHandle>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final ClassValue<Optional<MethodHandle>> liveConstructors = new ClassValue<>() {
+        @Override
+        protected Optional<MethodHandle> computeValue(Class<?> type) {
+            return generateLive(type);
+        }
+    };
+
+    private InterfaceClassGenerator() {
+    }
+
+    /**
+     * Get the constructor of the generated implementation of the interface.
+     * @param iface   the user interface.
+     * @param methods the methods of the interface.
+     * @param present the indexes of the methods with a value.
+     * @return the constructor taking the {@code Object[]} of the values and returning the new instance, or empty when
+     * the class cannot be generated.
+     */
+    static Optional<MethodHandle> constructor(Class<?> iface, List<Method> methods, BitSet present) {
+        return constructors.get(iface).computeIfAbsent(present, p -> generate(iface, methods, p));
+    }
+
+    /**
+     * Get the constructor of the generated live implementation of the interface.
+     * @param iface the user interface.
+     * @return the constructor taking the {@link AtomicReference} to the current instance and returning the new
+     * instance, or empty when the class cannot be generated.
+     */
+    static Optional<MethodHandle> liveConstructor(Class<?> iface) {
+        return liveConstructors.get(iface);
+    }
+
+    private static Optional<MethodHandle> generate(Class<?> iface, List<Method> methods, BitSet present) {
+        final String name = Type.internalName(iface) + SUFFIX + counter.incrementAndGet();
+        return define(iface, classBytes(iface, name, methods, present), Object[].class)
+                .map(constructor -> constructor.asType(CONSTRUCTOR_TYPE));
+    }
+
+    private static Optional<MethodHandle> generateLive(Class<?> iface) {
+        final String name = Type.internalName(iface) + LIVE_SUFFIX + counter.incrementAndGet();
+        return liveClassBytes(iface, name)
+                .flatMap(bytes -> define(iface, bytes, AtomicReference.class))
+                .map(constructor -> constructor.asType(LIVE_CONSTRUCTOR_TYPE));
+    }
+
+    private static Optional<MethodHandle> define(Class<?> iface, byte[] bytes, Class<?> parameter) {
+        try {
+            InterfaceClassGenerator.class.getModule().addReads(iface.getModule());
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(iface, MethodHandles.lookup());
+
+            final MethodType constructorType = MethodType.methodType(void.class, parameter);
+            // The hidden class needs the full privilege access, not granted to the private lookup in another module
+            if (defineHiddenClass != null && (lookup.lookupModes() & MethodHandles.Lookup.MODULE) != 0) {
+                final MethodHandles.Lookup classLookup =
+                        (MethodHandles.Lookup) defineHiddenClass.invokeExact(lookup, bytes);
+                return Optional.of(classLookup.findConstructor(classLookup.lookupClass(), constructorType));
+            }
+            // The package access of the lookup is enough for the class defined in the same package
+            return Optional.of(lookup.findConstructor(lookup.defineClass(bytes), constructorType));
+        } catch (VirtualMachineError e) {
+            throw e;
+        } catch (Throwable e) {
+            // Not open to this module, or unable to define the class; fall back to the Proxy
+            LOGGER.log(System.Logger.Level.WARNING, "Unable to generate the implementation of " + iface.getName()
+                    + ", the Proxy is used", e);
+            return Optional.empty();
+        }
+    }
+
+    private static byte[] classBytes(Class<?> iface, String name, List<Method> methods, BitSet present) {
+        final ClassFileWriter writer = new ClassFileWriter(ClassFileWriter.ACC_FINAL | ClassFileWriter.ACC_SUPER
+                | ClassFileWriter.ACC_SYNTHETIC, name, OBJECT, Type.internalName(iface));
+
+        final ClassFileWriter.Code constructor = writer
+                .method(ClassFileWriter.ACC_PUBLIC, "<init>", "([Ljava/lang/Object;)V")
+                .aload(0)
+                .method(Opcodes.INVOKESPECIAL, OBJECT, "<init>", "()V");
+
+        for (int i = 0; i != methods.size(); i++) {
+            final Method method = methods.get(i);
+            final Type type = Type.of(method.getReturnType());
+            final String descriptor = "()" + type.descriptor;
+            final String field = "v" + i;
+            if (present.get(i)) {
+                writer.field(ClassFileWriter.ACC_PRIVATE | ClassFileWriter.ACC_FINAL, field, type.descriptor);
+                constructor.aload(0).aload(1).pushInt(i).op(Opcodes.AALOAD);
+                type.unbox(constructor);
+                constructor.field(Opcodes.PUTFIELD, name, field, type.descriptor);
+
+                writer.method(ClassFileWriter.ACC_PUBLIC | ClassFileWriter.ACC_FINAL, method.getName(), descriptor)
+                        .aload(0)
+                        .field(Opcodes.GETFIELD, name, field, type.descriptor)
+                        .op(type.returnOpcode)
+                        .end(2, 1);
+            } else {
+                final String exception = Type.internalName(NoSuchObjectException.class);
+                writer.method(ClassFileWriter.ACC_PUBLIC | ClassFileWriter.ACC_FINAL, method.getName(), descriptor)
+                        .type(Opcodes.NEW, exception)
+                        .op(Opcodes.DUP)
+                        .ldc("No config value found for name " + method.getName())
+                        .method(Opcodes.INVOKESPECIAL, exception, "<init>", "(Ljava/lang/String;)V")
+                        .op(Opcodes.ATHROW)
+                        .end(3, 1);
+            }
+        }
+        constructor.op(Opcodes.RETURN).end(4, 2);
+
+        writer.method(ClassFileWriter.ACC_PUBLIC | ClassFileWriter.ACC_FINAL, "toString", "()Ljava/lang/String;")
+                .ldc(iface.getName())
+                .op(Opcodes.ARETURN)
+                .end(1, 1);
+
+        return writer.toByteArray();
+    }
+
+    private static Optional<byte[]> liveClassBytes(Class<?> iface, String name) {
+        final String ifaceName = Type.internalName(iface);
+        final ClassFileWriter writer = new ClassFileWriter(ClassFileWriter.ACC_FINAL | ClassFileWriter.ACC_SUPER
+                | ClassFileWriter.ACC_SYNTHETIC, name, OBJECT, ifaceName);
+        final String refDescriptor = "L" + ATOMIC_REFERENCE + ";";
+        writer.field(ClassFileWriter.ACC_PRIVATE | ClassFileWriter.ACC_FINAL, "ref", refDescriptor);
+
+        writer.method(ClassFileWriter.ACC_PUBLIC, "<init>", "(" + refDescriptor + ")V")
+                .aload(0)
+                .method(Opcodes.INVOKESPECIAL, OBJECT, "<init>", "()V")
+                .aload(0)
+                .aload(1)
+                .field(Opcodes.PUTFIELD, name, "ref", refDescriptor)
+                .op(Opcodes.RETURN)
+                .end(2, 2);
+
+        final Set<String> generated = new HashSet<>();
+        for (Method method : iface.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers())) {
+                continue;
+            }
+            if (method.getParameterCount() != 0) {
+                return Optional.empty();
+            }
+            final Type type = Type.of(method.getReturnType());
+            final String descriptor = "()" + type.descriptor;
+            if (generated.add(method.getName() + descriptor)) {
+                liveGet(writer, name, refDescriptor, method.getName(), descriptor)
+                        .type(Opcodes.CHECKCAST, ifaceName)
+                        .invokeInterface(ifaceName, method.getName(), descriptor, 1)
+                        .op(type.returnOpcode)
+                        .end(2, 1);
+            }
+        }
+
+        liveGet(writer, name, refDescriptor, "toString", "()Ljava/lang/String;")
+                .method(Opcodes.INVOKEVIRTUAL, OBJECT, "toString", "()Ljava/lang/String;")
+                .op(Opcodes.ARETURN)
+                .end(1, 1);
+
+        return Optional.of(writer.toByteArray());
+    }
+
+    /**
+     * Start the method by getting the current instance, the only volatile read of the live method.
+     */
+    private static ClassFileWriter.Code liveGet(ClassFileWriter writer, String name, String refDescriptor,
+                                                String method, String descriptor) {
+        return writer.method(ClassFileWriter.ACC_PUBLIC | ClassFileWriter.ACC_FINAL, method, descriptor)
+                .aload(0)
+                .field(Opcodes.GETFIELD, name, "ref", refDescriptor)
+                .method(Opcodes.INVOKEVIRTUAL, ATOMIC_REFERENCE, "get", "()Ljava/lang/Object;");
+    }
+
+    private static MethodHandle defineHiddenClass() {
+        try {
+            // JDK 15+, MethodHandles.Lookup#defineHiddenClass(byte[], boolean, ClassOption...)
+            final Class<?> classOption = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            final Class<?> classOptions = Array.newInstance(classOption, 0).getClass();
+            final MethodHandle define = MethodHandles.publicLookup().findVirtual(MethodHandles.Lookup.class,
+                    "defineHiddenClass",
+                    MethodType.methodType(MethodHandles.Lookup.class, byte[].class, boolean.class, classOptions));
+            return MethodHandles.insertArguments(define, 2, true, Array.newInstance(classOption, 0))
+                    .asType(MethodType.methodType(MethodHandles.Lookup.class, MethodHandles.Lookup.class, byte[].class));
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static final class Opcodes {
+        static final int AALOAD = 0x32;
+        static final int DUP = 0x59;
+        static final int IRETURN = 0xAC;
+        static final int LRETURN = 0xAD;
+        static final int FRETURN = 0xAE;
+        static final int DRETURN = 0xAF;
+        static final int ARETURN = 0xB0;
+        static final int RETURN = 0xB1;
+        static final int GETFIELD = 0xB4;
+        static final int PUTFIELD = 0xB5;
+        static final int INVOKEVIRTUAL = 0xB6;
+        static final int INVOKESPECIAL = 0xB7;
+        static final int NEW = 0xBB;
+        static final int ATHROW = 0xBF;
+        static final int CHECKCAST = 0xC0;
+    }
+
+    /**
+     * The JVM view of a method return type.
+     */
+    private static final class Type {
+        private final String descriptor;
+        private final String checkcast;
+        private final String unboxMethod;
+        private final int returnOpcode;
+
+        private Type(String descriptor, String checkcast, String unboxMethod, int returnOpcode) {
+            this.descriptor = descriptor;
+            this.checkcast = checkcast;
+            this.unboxMethod = unboxMethod;
+            this.returnOpcode = returnOpcode;
+        }
+
+        private static Type of(Class<?> type) {
+            if (type == int.class) {
+                return new Type("I", "java/lang/Integer", "intValue", Opcodes.IRETURN);
+            } else if (type == long.class) {
+                return new Type("J", "java/lang/Long", "longValue", Opcodes.LRETURN);
+            } else if (type == boolean.class) {
+                return new Type("Z", "java/lang/Boolean", "booleanValue", Opcodes.IRETURN);
+            } else if (type == double.class) {
+                return new Type("D", "java/lang/Double", "doubleValue", Opcodes.DRETURN);
+            } else if (type == float.class) {
+                return new Type("F", "java/lang/Float", "floatValue", Opcodes.FRETURN);
+            } else if (type == short.class) {
+                return new Type("S", "java/lang/Short", "shortValue", Opcodes.IRETURN);
+            } else if (type == byte.class) {
+                return new Type("B", "java/lang/Byte", "byteValue", Opcodes.IRETURN);
+            } else if (type == char.class) {
+                return new Type("C", "java/lang/Character", "charValue", Opcodes.IRETURN);
+            } else if (type.isArray()) {
+                final String descriptor = internalName(type);
+                return new Type(descriptor, descriptor, null, Opcodes.ARETURN);
+            } else {
+                return new Type("L" + internalName(type) + ";", internalName(type), null, Opcodes.ARETURN);
+            }
+        }
+
+        private void unbox(ClassFileWriter.Code code) {
+            code.type(Opcodes.CHECKCAST, checkcast);
+            if (unboxMethod != null) {
+                code.method(Opcodes.INVOKEVIRTUAL, checkcast, unboxMethod, "()" + descriptor);
+            }
+        }
+
+        private static String internalName(Class<?> type) {
+            return type.getName().replace('.', '/');
+        }
+    }
+}
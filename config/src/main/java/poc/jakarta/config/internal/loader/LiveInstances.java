@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.internal.loader;
+
+import jakarta.config.ConfigException;
+import poc.jakarta.config.internal.node.ConfigPath;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+/**
+ * The live {@link jakarta.config.Configuration} interface instances, delegating to the instance loaded from the current
+ * Config Tree. The delegate is replaced when the values under the path of the interface change, so the getter reads
+ * a single {@link AtomicReference} and then the field of the current instance. The delegate loaded from an older
+ * Config Tree never replaces the delegate loaded from a newer one. A live instance is shared by the loads of the same
+ * interface, generic type and path, and it is forgotten when no longer used.
+ */
+public final class LiveInstances {
+    private static final System.Logger LOGGER = System.getLogger(LiveInstances.class.getName());
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    // The entries whose live instances are no longer used
+    private final ReferenceQueue<Object> released = new ReferenceQueue<>();
+    private final boolean generate;
+
+    /**
+     * @param generate implement the interfaces by the generated classes rather than by {@link Proxy}.
+     */
+    public LiveInstances(boolean generate) {
+        this.generate = generate;
+    }
+
+    /**
+     * Create the live instance of the interface, or return the live instance of the interface, the generic type and
+     * the path still in use.
+     * @param iface   the interface.
+     * @param type    the generic type of the interface.
+     * @param path    the path of the interface in the Config Tree.
+     * @param current the instance loaded from the current Config Tree.
+     * @param loader  loads the instance of the class and the generic type from the current Config Tree.
+     * @return the live instance and its entry.
+     */
+    public <T> Live<T> create(Class<T> iface, Type type, ConfigPath path, Loaded current,
+                              BiFunction<Class<?>, Type, Loaded> loader) {
+        expunge();
+        final Key key = new Key(iface, type, path);
+        while (true) {
+            final Entry existing = entries.get(key);
+            final Object existingInstance = existing == null ? null : existing.get();
+            if (existingInstance != null) {
+                existing.update(current);
+                return new Live<>(iface.cast(existingInstance), existing);
+            }
+            final AtomicReference<Object> ref = new AtomicReference<>(current.instance);
+            final Object instance = instance(iface, ref);
+            final Entry entry = new Entry(key, instance, ref, current.generation, loader, released);
+            final boolean added = existing == null
+                    ? entries.putIfAbsent(key, entry) == null
+                    : entries.replace(key, existing, entry);
+            if (added) {
+                return new Live<>(iface.cast(instance), entry);
+            }
+            // Created concurrently, share the other live instance
+        }
+    }
+
+    /**
+     * Load the instances bound under the changed paths again.
+     * @param changed the changed paths.
+     */
+    public void refresh(List<ConfigPath> changed) {
+        expunge();
+        for (Entry entry : entries.values()) {
+            for (ConfigPath path : changed) {
+                if (path.startsWith(entry.key.path)) {
+                    entry.refresh();
+                    break;
+                }
+            }
+        }
+    }
+
+    private void expunge() {
+        Object released;
+        while ((released = this.released.poll()) != null) {
+            final Entry entry = (Entry) released;
+            entries.remove(entry.key, entry);
+        }
+    }
+
+    private Object instance(Class<?> iface, AtomicReference<Object> ref) {
+        if (generate) {
+            final Optional<MethodHandle> constructor = InterfaceClassGenerator.liveConstructor(iface);
+            if (constructor.isPresent()) {
+                try {
+                    return constructor.get().invokeExact(ref);
+                } catch (Throwable e) {
+                    throw new ConfigException(e.getMessage(), e);
+                }
+            }
+        }
+        return Proxy.newProxyInstance(iface.getClassLoader(), new Class[]{iface}, new LiveInvocationHandler(ref));
+    }
+
+    /**
+     * The instance loaded from the Config Tree of a generation, the later Config Trees have the higher generations.
+     */
+    public static final class Loaded {
+        private final Object instance;
+        private final long generation;
+
+        public Loaded(Object instance, long generation) {
+            this.instance = instance;
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * The live instance, with the entry refreshing it.
+     */
+    public static final class Live<T> {
+        private final T instance;
+        private final Entry entry;
+
+        private Live(T instance, Entry entry) {
+            this.instance = instance;
+            this.entry = entry;
+        }
+
+        public T instance() {
+            return instance;
+        }
+
+        /**
+         * Load the instance again, when the Config Tree was replaced while the live instance was being created.
+         */
+        public void refresh() {
+            entry.refresh();
+        }
+    }
+
+    private static final class Key {
+        private final Class<?> iface;
+        private final Type type;
+        private final ConfigPath path;
+
+        private Key(Class<?> iface, Type type, ConfigPath path) {
+            this.iface = iface;
+            this.type = type;
+            this.path = path;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return iface == other.iface && type.equals(other.type) && Objects.equals(path, other.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(iface, type, path);
+        }
+    }
+
+    // The entry is forgotten when the live instance is no longer used
+    private static final class Entry extends WeakReference<Object> {
+        private final Key key;
+        private final AtomicReference<Object> ref;
+        private final BiFunction<Class<?>, Type, Loaded> loader;
+        // Guarded by this, the generation of the Config Tree the current instance was loaded from
+        private long generation;
+
+        private Entry(Key key, Object instance, AtomicReference<Object> ref, long generation,
+                      BiFunction<Class<?>, Type, Loaded> loader, ReferenceQueue<Object> released) {
+            super(instance, released);
+            this.key = key;
+            this.ref = ref;
+            this.generation = generation;
+            this.loader = loader;
+        }
+
+        private void refresh() {
+            if (get() != null) {
+                final Loaded loaded;
+                try {
+                    loaded = loader.apply(key.iface, key.type);
+                } catch (RuntimeException e) {
+                    // The values do not bind anymore, keep the previous instance
+                    LOGGER.log(System.Logger.Level.WARNING, "Unable to reload the live instance of "
+                            + key.iface.getName() + " at " + key.path + ", the previous values are kept", e);
+                    return;
+                }
+                update(loaded);
+            }
+        }
+
+        private void update(Loaded loaded) {
+            // The creating thread and the watcher refresh concurrently, the newer Config Tree wins
+            synchronized (this) {
+                if (loaded.generation > generation) {
+                    generation = loaded.generation;
+                    ref.set(loaded.instance);
+                }
+            }
+        }
+    }
+
+    private static final class LiveInvocationHandler implements InvocationHandler {
+        private final AtomicReference<Object> ref;
+
+        private LiveInvocationHandler(AtomicReference<Object> ref) {
+            this.ref = ref;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return ref.get().toString();
+                }
+            }
+            try {
+                return method.invoke(ref.get(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -16,14 +16,11 @@
 
 package poc.jakarta.config.internal.loader;
 
-import jakarta.config.NoSuchObjectException;
-
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 
 final class MethodInjectable<T> implements Injectable<T> {
     private final Method method;
-    private Object value;
 
     public MethodInjectable(Method method) {
         this.method = method;
@@ -31,7 +28,7 @@ final class MethodInjectable<T> implements Injectable<T> {
 
     @Override
     public void inject(T instance, Object value) {
-        this.value = value;
+        StandaloneInterfaceInstantiator.holder(instance).value(name(), value);
     }
 
     @Override
@@ -49,10 +46,7 @@ final class MethodInjectable<T> implements Injectable<T> {
         return method.getName();
     }
 
-    Object getValue() {
-        if (value != null) {
-            return value;
-        }
-        throw new NoSuchObjectException("No config value found for name " + name());
+    Method method() {
+        return method;
     }
 }
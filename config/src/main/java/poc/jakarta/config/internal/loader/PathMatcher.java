@@ -17,13 +17,14 @@
 package poc.jakarta.config.internal.loader;
 
 import poc.jakarta.config.internal.node.ConfigPath;
+import poc.jakarta.config.internal.node.ConfigPathCache;
 
 public class PathMatcher {
     private final ConfigPath configPath;
     private static final ConfigPath EMPTY = ConfigPath.from("").build();
 
     public PathMatcher(String configPath) {
-        this.configPath = configPath == null ? EMPTY : ConfigPath.from(configPath).build();
+        this.configPath = configPath == null ? EMPTY : ConfigPathCache.path(configPath);
     }
 
     public ConfigPath path() {
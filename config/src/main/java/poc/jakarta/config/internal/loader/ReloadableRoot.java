@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.internal.loader;
+
+import jakarta.config.ConfigException;
+import poc.jakarta.config.internal.node.ConfigNode;
+import poc.jakarta.config.internal.node.ConfigNodeBuilder;
+import poc.jakarta.config.internal.node.ConfigPath;
+import poc.jakarta.config.internal.node.FrozenConfigNode;
+import poc.jakarta.config.internal.source.FrozenSource;
+import poc.jakarta.config.internal.source.SourceWatcher;
+import poc.jakarta.config.internal.source.WatchableSource;
+import poc.jakarta.config.node.NodeData;
+import poc.jakarta.config.source.ConfigSource;
+import poc.jakarta.config.source.ReloadStatistics;
+import poc.jakarta.config.value.ConfigNodeValue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>
+ *     The Config Tree of sources that are reloaded when their files change. Each source is kept loaded in a separate
+ *     tree, a change re-parses only the changed sources on the watcher thread. The changed values are found by
+ *     comparing the previous and the new tree of the source, only these are applied to a copy of the published
+ *     {@link FrozenConfigNode}, and the new Config Tree is published with the paths of the changed values.
+ * </p>
+ * <p>
+ *     When a source fails to reload, the previous tree of the source is kept until its file changes again, the other
+ *     changed sources are applied.
+ * </p>
+ */
+public final class ReloadableRoot implements AutoCloseable {
+    private static final Allocations ALLOCATIONS = new Allocations();
+
+    private final List<ConfigSource> sources;
+    // The trees of the watched sources are ConfigNodes, the FrozenSources are kept frozen
+    private final NodeData[] trees;
+    private final int[] watchedSources;
+    // The watched files, stamped before the sources were loaded
+    private final SourceWatcher.Stamps stamps;
+    private final FrozenConfigNode root;
+    private FrozenConfigNode current; // watcher thread only
+    private volatile ReloadStatistics statistics = ReloadStatistics.NONE;
+    private BiConsumer<FrozenConfigNode, List<ConfigPath>> publisher;
+    private SourceWatcher watcher;
+
+    /**
+     * @param sources  the sources, in the order of their precedence.
+     * @param parallel load the sources in parallel rather than one by one.
+     */
+    public ReloadableRoot(List<ConfigSource> sources, boolean parallel) {
+        this.sources = List.copyOf(sources);
+        final List<Integer> watched = new ArrayList<>();
+        final List<Path> files = new ArrayList<>();
+        for (int i = 0; i != this.sources.size(); i++) {
+            if (this.sources.get(i) instanceof WatchableSource) {
+                watched.add(i);
+                files.add(((WatchableSource) this.sources.get(i)).file());
+            }
+        }
+        this.watchedSources = watched.stream().mapToInt(Integer::intValue).toArray();
+        // A file changed while being loaded differs from its stamp, and it is reloaded
+        this.stamps = SourceWatcher.stamp(files);
+        this.trees = (parallel ? load(this.sources) : loadOneByOne(this.sources)).toArray(new NodeData[0]);
+        this.root = FrozenConfigNode.merge(Arrays.asList(trees));
+        this.current = root;
+    }
+
+    /**
+     * Load each source into a separate tree, in parallel. The {@link FrozenSource}s that are not watched give their
+     * shared frozen trees.
+     * @param sources the sources.
+     * @return the {@link ConfigNode} or {@link FrozenConfigNode} trees of the sources, in the order of the sources.
+     */
+    public static List<NodeData> load(List<ConfigSource> sources) {
+        final List<CompletableFuture<NodeData>> futures = new ArrayList<>(sources.size());
+        for (ConfigSource source : sources) {
+            futures.add(CompletableFuture.supplyAsync(() -> load(source)));
+        }
+        final List<NodeData> trees = new ArrayList<>(sources.size());
+        for (CompletableFuture<NodeData> future : futures) {
+            try {
+                trees.add(future.join());
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException
+                        ? (RuntimeException) e.getCause()
+                        : new ConfigException(e.getCause());
+            }
+        }
+        return trees;
+    }
+
+    private static List<NodeData> loadOneByOne(List<ConfigSource> sources) {
+        final List<NodeData> trees = new ArrayList<>(sources.size());
+        for (ConfigSource source : sources) {
+            trees.add(load(source));
+        }
+        return trees;
+    }
+
+    private static NodeData load(ConfigSource source) {
+        // The watched sources are reloaded and compared, their trees need to be ConfigNodes
+        return source instanceof FrozenSource && !(source instanceof WatchableSource)
+                ? ((FrozenSource) source).loadFrozen()
+                : source.load(null);
+    }
+
+    /**
+     * The Config Tree of the sources as initially loaded.
+     * @return the initial Config Tree.
+     */
+    public FrozenConfigNode root() {
+        return root;
+    }
+
+    /**
+     * Start watching the files of the {@link WatchableSource}s.
+     * @param interval the poll interval.
+     * @param publisher receives the reloaded Config Trees and the paths of the changed values, on the watcher thread.
+     */
+    public synchronized void watch(Duration interval, BiConsumer<FrozenConfigNode, List<ConfigPath>> publisher) {
+        if (watcher != null || watchedSources.length == 0) {
+            return;
+        }
+        this.publisher = publisher;
+        watcher = new SourceWatcher(stamps, interval, this::reload);
+    }
+
+    /**
+     * The statistics of the reloads.
+     * @return the statistics.
+     */
+    public ReloadStatistics statistics() {
+        return statistics;
+    }
+
+    private void reload(BitSet changedFiles) {
+        final long allocated = ALLOCATIONS.current();
+        final long start = System.nanoTime();
+        final Set<ConfigPath> changed = new LinkedHashSet<>();
+        RuntimeException failure = null;
+        try {
+            // Load all the changed sources first, a failed source leaves its tree as it was
+            final ConfigNode[] reloaded = new ConfigNode[trees.length];
+            boolean loaded = false;
+            for (int file = changedFiles.nextSetBit(0); file >= 0; file = changedFiles.nextSetBit(file + 1)) {
+                final int source = watchedSources[file];
+                try {
+                    reloaded[source] = (ConfigNode) sources.get(source).load(null);
+                    loaded = true;
+                } catch (RuntimeException e) {
+                    failure = e;
+                }
+            }
+            if (!loaded && failure != null) {
+                statistics = statistics.failed(failure);
+                return;
+            }
+            for (int source = 0; source != trees.length; source++) {
+                if (reloaded[source] != null) {
+                    changed.addAll(ConfigNodeBuilder.diff((ConfigNode) trees[source], reloaded[source]));
+                    trees[source] = reloaded[source];
+                }
+            }
+            if (!changed.isEmpty()) {
+                final Map<ConfigPath, ConfigNodeValue> values = new LinkedHashMap<>();
+                for (ConfigPath path : changed) {
+                    values.put(path, value(path));
+                }
+                current = current.patch(values);
+            }
+            final long nanos = System.nanoTime() - start;
+            final long allocatedNow = ALLOCATIONS.current();
+            // Counted before published, so that the reload is in the statistics once the new tree is seen
+            statistics = statistics.reloaded(nanos, allocated == -1 ? -1 : allocatedNow - allocated, changed.size());
+            if (failure != null) {
+                statistics = statistics.failed(failure);
+            }
+        } catch (RuntimeException e) {
+            statistics = statistics.failed(e);
+            return;
+        }
+        if (!changed.isEmpty()) {
+            publisher.accept(current, List.copyOf(changed));
+        }
+    }
+
+    // The value of the source with the highest precedence
+    private ConfigNodeValue value(ConfigPath path) {
+        for (int source = trees.length - 1; source >= 0; source--) {
+            final ConfigNodeValue value = value(trees[source], path);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static ConfigNodeValue value(NodeData tree, ConfigPath path) {
+        if (tree instanceof FrozenConfigNode) {
+            final FrozenConfigNode node = ((FrozenConfigNode) tree).find(path);
+            return node == null ? null : node.valueOrNull();
+        }
+        return ((ConfigNode) tree).navigate(path).map(ConfigNode::valueOrNull).orElse(null);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    /**
+     * The bytes allocated by the current thread, when supported by the JVM.
+     */
+    private static final class Allocations {
+        private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        private final Method allocatedBytes;
+
+        private Allocations() {
+            Method method = null;
+            try {
+                final Class<?> beanClass = Class.forName("com.sun.management.ThreadMXBean");
+                if (beanClass.isInstance(threadMXBean)) {
+                    method = beanClass.getMethod("getThreadAllocatedBytes", long.class);
+                }
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // not supported
+            }
+            this.allocatedBytes = method;
+        }
+
+        private long current() {
+            if (allocatedBytes == null) {
+                return -1;
+            }
+            try {
+                return (long) allocatedBytes.invoke(threadMXBean, Thread.currentThread().getId());
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return -1;
+            }
+        }
+    }
+}
@@ -16,19 +16,32 @@
 
 package poc.jakarta.config.internal.loader;
 
-import poc.jakarta.config.node.Data;
-
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 final class StandaloneClassInjector extends AbstractStandaloneInjector {
+    // The field setters are created once per class
+    private static final ClassValue<List<FieldInjectable<?>>> fieldInjectables = new ClassValue<>() {
+        @Override
+        protected List<FieldInjectable<?>> computeValue(Class<?> type) {
+            final Field[] fields = type.getDeclaredFields();
+            final List<FieldInjectable<?>> injectables = new ArrayList<>(fields.length);
+            for (Field f : fields) {
+                injectables.add(new FieldInjectable<>(f));
+            }
+            return Collections.unmodifiableList(injectables);
+        }
+    };
+
     StandaloneClassInjector() {
         super(true);
     }
 
     @Override
-    public <T> void inject(Class<T> type, T t, Data data, ConfigLoaderContext ctx) {
-        for (Field f : type.getDeclaredFields()) {
-            inject(t, new FieldInjectable<T>(f), data, ctx);
-        }
+    protected <T> Collection<FieldInjectable<T>> injectables(Class<T> type) {
+        return (Collection) fieldInjectables.get(type);
     }
 }
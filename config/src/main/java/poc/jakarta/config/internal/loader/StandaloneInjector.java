@@ -37,11 +37,21 @@ public final class StandaloneInjector implements Injector {
     }
 
     @Override
-    public <T> void inject(Class<T> clazz, T t, Data data, ConfigLoaderContext ctx) {
-        if (clazz.isInterface()) {
-            standaloneInterfaceInjector.inject(clazz, t, data, ctx);
-        } else {
-            standaloneClassInjector.inject(clazz, t, data, ctx);
-        }
+    public <T> BindingPlan<T> plan(Class<T> clazz, Type type, ConfigLoaderContext ctx) {
+        return clazz.isInterface()
+                ? standaloneInterfaceInjector.plan(clazz, type, ctx)
+                : standaloneClassInjector.plan(clazz, type, ctx);
+    }
+
+    @Override
+    public <T> BindingPlan<T> plan(Class<T> clazz, Type type, Data data, ConfigLoaderContext ctx) {
+        return clazz.isInterface()
+                ? standaloneInterfaceInjector.plan(clazz, type, data, ctx)
+                : standaloneClassInjector.plan(clazz, type, data, ctx);
+    }
+
+    @Override
+    public <T> BindingPlan<T> planSingle(Class<T> clazz, Type type, ConfigLoaderContext ctx) {
+        return standaloneClassInjector.planSingle(clazz, type, ctx);
     }
 }
@@ -16,24 +16,117 @@
 
 package poc.jakarta.config.internal.loader;
 
+import jakarta.config.ConfigException;
 import poc.jakarta.config.node.Data;
+import poc.jakarta.config.value.ConfigNodeValue;
+import poc.jakarta.config.value.NodeValueConvertor;
 
-import java.util.Iterator;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 final class StandaloneInterfaceInjector extends AbstractStandaloneInjector {
+    private static final ClassValue<List<MethodInjectable<?>>> methodInjectables = new ClassValue<>() {
+        @Override
+        protected List<MethodInjectable<?>> computeValue(Class<?> type) {
+            final Method[] methods = type.getDeclaredMethods();
+            final List<MethodInjectable<?>> injectables = new ArrayList<>(methods.length);
+            for (Method method : methods) {
+                if (!method.isBridge() && !method.isDefault() && !method.isSynthetic() && method.getParameterCount() == 0) {
+                    injectables.add(new MethodInjectable<>(method));
+                } else {
+                    throw new ConfigException("Could not instantiate an instance with method " + method.getName());
+                }
+            }
+            return Collections.unmodifiableList(injectables);
+        }
+    };
+
     StandaloneInterfaceInjector() {
         super(false);
     }
 
     @Override
-    public <T> void inject(Class<T> type, T t, Data data, ConfigLoaderContext ctx) {
-        final StandaloneInterfaceInstantiator.MethodReturnedValueHolderImpl  holder =
-                (StandaloneInterfaceInstantiator.MethodReturnedValueHolderImpl)
-                        ((StandaloneInterfaceInstantiator.MethodReturnedValueHolder<T>) t).toMethodReturnedValueHolder(this);
-
-        Iterator<MethodInjectable<T>> injectableIterator = holder.getInjectables(this).iterator();
-        while (injectableIterator.hasNext()) {
-            inject(t, injectableIterator.next(), data, ctx);
+    protected <T> List<MethodInjectable<T>> injectables(Class<T> type) {
+        return (List) methodInjectables.get(type);
+    }
+
+    @Override
+    public <T> BindingPlan<T> plan(Class<T> clazz, Type type, Data data, ConfigLoaderContext ctx) {
+        // The fields of the generated class hold the converted values, the lazy values are held by the Proxy
+        if (ctx.builder.options.generateInterfaceImplementations && !ctx.builder.options.lazyInterfaces) {
+            Optional<BindingPlan<T>> plan = generatedPlan(clazz, data, ctx);
+            if (plan.isPresent()) {
+                return plan.get();
+            }
+        }
+        return super.plan(clazz, type, data, ctx);
+    }
+
+    @Override
+    protected <T> BindingPlan.Binding<T> valueBinding(Injectable<T> injectable, NodeValueConvertor convertor,
+                                                      ConfigNodeValue value, ConfigLoaderContext ctx) {
+        if (ctx.builder.options.lazyInterfaces) {
+            return new BindingPlan.LazyValueBinding<>(injectable, convertor, value);
+        }
+        return super.valueBinding(injectable, convertor, value, ctx);
+    }
+
+    private <T> Optional<BindingPlan<T>> generatedPlan(Class<T> clazz, Data data, ConfigLoaderContext ctx) {
+        final List<MethodInjectable<T>> injectables = injectables(clazz);
+        final List<Method> methods = new ArrayList<>(injectables.size());
+        final List<BindingPlan.Binding<Object[]>> bindings = new ArrayList<>(injectables.size());
+        final BitSet present = new BitSet(injectables.size());
+        for (int i = 0; i != injectables.size(); i++) {
+            final MethodInjectable<T> injectable = injectables.get(i);
+            methods.add(injectable.method());
+            Optional<BindingPlan.Binding<Object[]>> binding = binding(clazz, new SlotInjectable(injectable, i), data, ctx);
+            if (binding.isPresent()) {
+                bindings.add(binding.get());
+                present.set(i);
+            }
+        }
+        final Optional<MethodHandle> constructor = InterfaceClassGenerator.constructor(clazz, methods, present);
+        return constructor.map(c -> BindingPlan.constructed(c, injectables.size(), bindings));
+    }
+
+    /**
+     * The {@link Injectable} storing the value of a method to the array of the values passed to the constructor of
+     * the generated class.
+     */
+    private static final class SlotInjectable implements Injectable<Object[]> {
+        private final MethodInjectable<?> method;
+        private final int index;
+
+        private SlotInjectable(MethodInjectable<?> method, int index) {
+            this.method = method;
+            this.index = index;
+        }
+
+        @Override
+        public void inject(Object[] instance, Object value) {
+            instance[index] = value;
+        }
+
+        @Override
+        public Class<?> getType() {
+            return method.getType();
+        }
+
+        @Override
+        public Type getGenericType() {
+            return method.getGenericType();
+        }
+
+        @Override
+        public String name() {
+            return method.name();
         }
     }
 }
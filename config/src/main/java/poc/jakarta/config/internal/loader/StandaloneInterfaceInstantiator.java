@@ -16,13 +16,14 @@
 
 package poc.jakarta.config.internal.loader;
 
-import jakarta.config.ConfigException;
+import jakarta.config.NoSuchObjectException;
+import poc.jakarta.config.value.ConfigNodeValue;
+import poc.jakarta.config.value.NodeValueConvertor;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -35,6 +36,10 @@ final class StandaloneInterfaceInstantiator implements Instantiator {
                 new MethodReturnedValueHolderImpl<>(clazz));
     }
 
+    static MethodReturnedValueHolderImpl<?> holder(Object instance) {
+        return (MethodReturnedValueHolderImpl<?>) ((MethodReturnedValueHolder<?>) instance).toMethodReturnedValueHolder(null);
+    }
+
     /*
      * Must be public for JPMS, otherwise the JDK proxy fails
      */
@@ -47,18 +52,11 @@ final class StandaloneInterfaceInstantiator implements Instantiator {
         MethodReturnedValueHolder toMethodReturnedValueHolder(Object arg);
     }
 
-    class MethodReturnedValueHolderImpl<T> implements MethodReturnedValueHolder<T> {
+    static class MethodReturnedValueHolderImpl<T> implements MethodReturnedValueHolder<T> {
         private final Class<T> clazz;
-        private final Map<String, MethodInjectable<T>> retValues = new HashMap<>();
+        private final Map<String, Object> retValues = new HashMap<>();
         private MethodReturnedValueHolderImpl(Class<T> clazz) {
             this.clazz = clazz;
-            for (Method method : clazz.getDeclaredMethods()) {
-                if (!method.isBridge() && !method.isDefault() && !method.isSynthetic() && method.getParameterCount() == 0) {
-                    retValues.put(method.getName(), new MethodInjectable<>(method));
-                } else {
-                    throw new ConfigException("Could not instantiate an instance with method " + method.getName());
-                }
-            }
         }
 
         @Override
@@ -69,7 +67,7 @@ final class StandaloneInterfaceInstantiator implements Instantiator {
             if (method.getName().equals("toString")) {
                 return clazz.getName();
             }
-            return retValues.get(method.getName()).getValue();
+            return value(method.getName());
         }
 
         @Override
@@ -77,8 +75,47 @@ final class StandaloneInterfaceInstantiator implements Instantiator {
             return this;
         }
 
-        Collection<MethodInjectable<T>> getInjectables(Object arg) {
-            return retValues.values();
+        void value(String name, Object value) {
+            retValues.put(name, value);
+        }
+
+        private Object value(String name) {
+            Object value = retValues.get(name);
+            if (value instanceof LazyValue) {
+                value = ((LazyValue) value).get();
+            }
+            if (value != null) {
+                return value;
+            }
+            throw new NoSuchObjectException("No config value found for name " + name);
+        }
+    }
+
+    /**
+     * The value converted on the first access. The threads accessing the value for the first time at once may all
+     * convert it, any of the converted values is then kept.
+     */
+    static final class LazyValue {
+        private static final Object NULL = new Object();
+
+        private final Injectable<?> injectable;
+        private final NodeValueConvertor convertor;
+        private final ConfigNodeValue value;
+        private volatile Object converted;
+
+        LazyValue(Injectable<?> injectable, NodeValueConvertor convertor, ConfigNodeValue value) {
+            this.injectable = injectable;
+            this.convertor = convertor;
+            this.value = value;
+        }
+
+        Object get() {
+            Object converted = this.converted;
+            if (converted == null) {
+                converted = value.get(injectable.getType(), injectable.getGenericType(), convertor);
+                this.converted = converted == null ? NULL : converted;
+            }
+            return converted == NULL ? null : converted;
         }
     }
 }
@@ -143,7 +143,7 @@ public final class CdiConfigExtension implements Extension {
 
         ConfigBean(final Type t, String name, String path) {
             this.t = t;
-            this.loader = "".equals(path) ? CdiConfigExtension.this.loader : PocConfigLoader.builder().path(path).build();
+            this.loader = "".equals(path) ? CdiConfigExtension.this.loader : CdiConfigExtension.this.loader.path(path);
             this.path = path;
             this.name = name;
         }
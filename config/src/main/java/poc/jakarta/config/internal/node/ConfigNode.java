@@ -52,6 +52,19 @@ public final class ConfigNode implements Collection<ConfigNode>, NodeData {
         return key.getName();
     }
 
+    /* package */ ConfigPath.ConfigPathSegment segment() {
+        return key;
+    }
+
+    /**
+     * Compact this Config Tree to an immutable, read-optimized {@link FrozenConfigNode}. The Config Tree is not
+     * changed, the later changes are not reflected by the frozen tree.
+     * @return The {@link FrozenConfigNode} snapshot of this Config Tree.
+     */
+    public FrozenConfigNode freeze() {
+        return FrozenConfigNode.freeze(this);
+    }
+
     /* package */ ConfigNode value(ConfigNodeValue value) {
         this.value = Optional.ofNullable(value);
         return this;
@@ -64,7 +77,7 @@ public final class ConfigNode implements Collection<ConfigNode>, NodeData {
 
     @Override
     public ConfigNodeValue valueOrNull() {
-        return value == null ? null : value.get();
+        return value == null ? null : value.orElse(null);
     }
 
     @Override
@@ -73,10 +86,10 @@ public final class ConfigNode implements Collection<ConfigNode>, NodeData {
     }
 
     /* package */ Optional<ConfigNode> navigate(String path) {
-        return navigate(ConfigPath.from(path).build());
+        return navigate(ConfigPathCache.path(path));
     }
 
-    /* package */ Optional<ConfigNode> navigate(ConfigPath path) {
+    public Optional<ConfigNode> navigate(ConfigPath path) {
         return navigate(path.getSegments());
     }
 
@@ -108,8 +121,8 @@ public final class ConfigNode implements Collection<ConfigNode>, NodeData {
 
     private Optional<ConfigNode> navigate(Iterator<ConfigPath.ConfigPathSegment> segment) {
         Optional<ConfigNode> next = Optional.of(this);
-        while (segment.hasNext()) {
-            next = next.flatMap(configNode -> configNode.navigate(segment.next()));
+        while (segment.hasNext() && next.isPresent()) {
+            next = next.get().navigate(segment.next());
         }
         return next;
     }
@@ -165,6 +178,28 @@ public final class ConfigNode implements Collection<ConfigNode>, NodeData {
         return this;
     }
 
+    /**
+     * Merge the other Config Tree into this one, as if the source of the other tree was loaded into this tree. The
+     * values of the other tree replace the values of this tree, the sub-nodes missing in this tree are moved from the
+     * other tree.
+     * @param other the Config Tree to merge, it is not usable afterwards.
+     * @return this Config Tree.
+     */
+    public ConfigNode merge(ConfigNode other) {
+        if (other.value != null && other.value.isPresent()) {
+            value = other.value;
+        }
+        for (ConfigNode child : other.children.values()) {
+            final ConfigNode existing = children.get(child.key);
+            if (existing == null) {
+                add(child);
+            } else {
+                existing.merge(child);
+            }
+        }
+        return this;
+    }
+
     @Override
     public boolean remove(Object o) {
         return removeChild(o) != null;
@@ -18,7 +18,12 @@ package poc.jakarta.config.internal.node;
 
 import poc.jakarta.config.value.ConfigNodeValue;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 public final class ConfigNodeBuilder {
@@ -27,7 +32,7 @@ public final class ConfigNodeBuilder {
     }
 
     static ConfigNodeBuilder from(ConfigPath path) {
-        return new ConfigNodeBuilder(new ConfigNode(new ConfigPath.ConfigPathSegment(""))).path(path);
+        return new ConfigNodeBuilder(new ConfigNode(ConfigPath.ConfigPathSegment.of(""))).path(path);
     }
 
     static ConfigNodeBuilder from(ConfigNode configNode) {
@@ -67,4 +72,55 @@ public final class ConfigNodeBuilder {
     public ConfigNode build() {
         return root;
     }
+
+    /**
+     * The paths of the values that differ between two Config Trees loaded from the same source, the values added,
+     * removed, or changed. Apply the changes to a frozen Config Tree by {@link FrozenConfigNode#patch(Map)}.
+     * @param oldTree the previously loaded Config Tree.
+     * @param newTree the newly loaded Config Tree.
+     * @return the paths of the changed values, in the order of the keys.
+     */
+    public static List<ConfigPath> diff(ConfigNode oldTree, ConfigNode newTree) {
+        final List<ConfigPath> changed = new ArrayList<>();
+        diff(oldTree, newTree, ConfigPath.from("").build(), changed);
+        return changed;
+    }
+
+    private static void diff(ConfigNode oldNode, ConfigNode newNode, ConfigPath path, List<ConfigPath> changed) {
+        if (!Objects.equals(valueOrNull(oldNode), valueOrNull(newNode))) {
+            changed.add(path);
+        }
+        final Iterator<ConfigNode> oldChildren = children(oldNode);
+        final Iterator<ConfigNode> newChildren = children(newNode);
+        ConfigNode oldChild = next(oldChildren);
+        ConfigNode newChild = next(newChildren);
+        while (oldChild != null || newChild != null) {
+            final int compare = oldChild == null ? 1
+                    : newChild == null ? -1
+                    : oldChild.segment().compareTo(newChild.segment());
+            if (compare == 0) {
+                diff(oldChild, newChild, path.child(oldChild.segment()), changed);
+                oldChild = next(oldChildren);
+                newChild = next(newChildren);
+            } else if (compare < 0) {
+                diff(oldChild, null, path.child(oldChild.segment()), changed);
+                oldChild = next(oldChildren);
+            } else {
+                diff(null, newChild, path.child(newChild.segment()), changed);
+                newChild = next(newChildren);
+            }
+        }
+    }
+
+    private static ConfigNodeValue valueOrNull(ConfigNode node) {
+        return node == null ? null : node.valueOrNull();
+    }
+
+    private static Iterator<ConfigNode> children(ConfigNode node) {
+        return node == null ? Collections.emptyIterator() : node.iterator();
+    }
+
+    private static ConfigNode next(Iterator<ConfigNode> iterator) {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
 }
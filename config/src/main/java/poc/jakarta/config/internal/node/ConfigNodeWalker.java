@@ -16,24 +16,42 @@
 package poc.jakarta.config.internal.node;
 
 import poc.jakarta.config.node.Data;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public final class ConfigNodeWalker {
 
-    private static Data toData(ConfigNode configNode) {
-        Data node = new Data(configNode.key(), configNode.value().orElseGet(() -> null));
-        configNode.stream()
-                .filter(ConfigNode::isLeaf)
-                .forEach(n -> node.properties().add(toChild(n)));
-        return node;
+    /* package */ static Data toData(FrozenConfigNode configNode) {
+        final List<Data.ChildKeyValue> properties = new ArrayList<>(configNode.size());
+        final Set<String> subnodes = new HashSet<>();
+        for (int i = 0; i != configNode.size(); i++) {
+            FrozenConfigNode child = configNode.child(i);
+            if (child.isLeaf()) {
+                properties.add(toChild(child));
+            }
+            if (child.isSubNode()) {
+                subnodes.add(child.key());
+            }
+        }
+        return new Data(configNode.key(), configNode.valueOrNull(), properties, subnodes);
     }
 
-    private static Data.ChildKeyValue toChild(ConfigNode node) {
-        return new Data.ChildKeyValue(node.key(), node.value().get());
+    private static Data.ChildKeyValue toChild(FrozenConfigNode node) {
+        return new Data.ChildKeyValue(node.key(), node.valueOrNull());
     }
 
-    public Optional<Data> walk(ConfigNode root, ConfigPath prefix) {
-        Optional<ConfigNode> navigate = root.navigate(prefix);
-        return navigate.map(ConfigNodeWalker::toData);
+    /**
+     * The {@link Data} view of the Config Node on the path, created once per the frozen Config Node.
+     * @param root the root of the Config Tree.
+     * @param prefix the path of the Config Node.
+     * @return the {@link Data}, or empty when there is no Config Node on the path.
+     */
+    public Optional<Data> walk(FrozenConfigNode root, ConfigPath prefix) {
+        FrozenConfigNode node = root.find(prefix);
+        return node == null ? Optional.empty() : Optional.of(node.data());
     }
 }
@@ -16,16 +16,24 @@
 
 package poc.jakarta.config.internal.node;
 
-import java.util.LinkedList;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.WeakHashMap;
 
+/**
+ * Immutable path in the Config Tree. The hash code is computed once, the path is used as a key of the Config Tree
+ * index, see {@link FrozenConfigNode#find(ConfigPath)}.
+ */
 public final class ConfigPath {
 
     private final List<ConfigPathSegment> segments;
+    private final int hash;
 
     private ConfigPath(List<ConfigPathSegment> segments) {
-        this.segments = segments;
+        this.segments = List.copyOf(segments);
+        this.hash = this.segments.hashCode();
     }
 
     public List<ConfigPathSegment> getSegments() {
@@ -36,12 +44,79 @@ public final class ConfigPath {
         return segments.get(segments.size() - 1);
     }
 
+    /**
+     * Whether this path is the given path or a path under it.
+     * @param prefix the path.
+     * @return {@code true} when the segments of this path start with the segments of the prefix.
+     */
+    public boolean startsWith(ConfigPath prefix) {
+        final int size = prefix.segments.size();
+        return segments.size() >= size && segments.subList(0, size).equals(prefix.segments);
+    }
+
+    /* package */ ConfigPath child(ConfigPathSegment segment) {
+        final List<ConfigPathSegment> child = new ArrayList<>(segments.size() + 1);
+        child.addAll(segments);
+        child.add(segment);
+        return new ConfigPath(child);
+    }
+
+    /**
+     * The key of a Config Tree node. The segments created by {@link #of(String)} are interned in a symbol table shared
+     * by all the loaders, so that the same key is represented by the same instance in the parsed paths, in the
+     * Config Tree and in its index, and the equality is mostly decided by the identity. The symbol table holds the
+     * segments weakly, the keys no longer used by any Config Tree, such as the keys removed by a reload, are released.
+     */
     public static final class ConfigPathSegment implements Comparable<ConfigPathSegment>, CharSequence {
+        // Striped to reduce the contention of the parsing threads, each stripe is guarded by itself
+        private static final int STRIPES = 16;
+        private static final Map<String, WeakReference<ConfigPathSegment>>[] SYMBOLS = symbols();
+
+        private final String name;
+        private final int hash;
+        private final boolean interned;
+
         public ConfigPathSegment(String name) {
-            this.name = name.trim();
+            this(name.trim(), false);
         }
 
-        private String name;
+        private ConfigPathSegment(String name, boolean interned) {
+            this.name = name;
+            this.hash = name.hashCode();
+            this.interned = interned;
+        }
+
+        /**
+         * Get the interned segment of the given name.
+         * @param name the name of the segment, trimmed.
+         * @return the shared instance of the segment.
+         */
+        public static ConfigPathSegment of(String name) {
+            final String trimmed = name.trim();
+            final Map<String, WeakReference<ConfigPathSegment>> symbols =
+                    SYMBOLS[(trimmed.hashCode() & Integer.MAX_VALUE) % STRIPES];
+            synchronized (symbols) {
+                final WeakReference<ConfigPathSegment> reference = symbols.get(trimmed);
+                ConfigPathSegment segment = reference == null ? null : reference.get();
+                if (segment == null) {
+                    segment = new ConfigPathSegment(trimmed, true);
+                    // The weak key is the name held by the segment, the entry lives as long as the segment. A cleared
+                    // entry is removed first, the put would keep its stale key.
+                    symbols.remove(trimmed);
+                    symbols.put(segment.name, new WeakReference<>(segment));
+                }
+                return segment;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Map<String, WeakReference<ConfigPathSegment>>[] symbols() {
+            final Map<String, WeakReference<ConfigPathSegment>>[] symbols = new Map[STRIPES];
+            for (int i = 0; i != STRIPES; i++) {
+                symbols[i] = new WeakHashMap<>();
+            }
+            return symbols;
+        }
 
         public String getName() {
             return name;
@@ -49,7 +124,7 @@ public final class ConfigPath {
 
         @Override
         public int compareTo(ConfigPathSegment o) {
-            return name.compareTo(o.name);
+            return this == o ? 0 : name.compareTo(o.name);
         }
 
         @Override
@@ -57,12 +132,13 @@ public final class ConfigPath {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             ConfigPathSegment that = (ConfigPathSegment) o;
-            return Objects.equals(name, that.name);
+            if (hash != that.hash || (interned && that.interned)) return false;
+            return name.equals(that.name);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(name);
+            return hash;
         }
 
         @Override
@@ -98,22 +174,48 @@ public final class ConfigPath {
         }
 
         public Builder append(String path) {
-            final List<ConfigPathSegment> segments = ConfigSegmentParser.parse(path);
-            this.segments.addAll(segments);
+            ConfigSegmentParser.parse(path, segments);
             return this;
         }
     }
 
     public static Builder from(String path) {
-        final List<ConfigPathSegment> segments = ConfigSegmentParser.parse(path);
+        final List<ConfigPathSegment> segments = new ArrayList<>();
+        ConfigSegmentParser.parse(path, segments);
+        return new Builder(segments);
+    }
+
+    /**
+     * Parse the part of the characters between {@code begin} and {@code end}, without copying it.
+     * @param path the characters containing the path.
+     * @param begin the index of the first character of the path.
+     * @param end the index after the last character of the path.
+     * @return the builder of the parsed path.
+     */
+    public static Builder from(CharSequence path, int begin, int end) {
+        final List<ConfigPathSegment> segments = new ArrayList<>();
+        ConfigSegmentParser.parse(path, begin, end, segments);
         return new Builder(segments);
     }
 
     public static Builder from(ConfigPath path) {
-        final List<ConfigPathSegment> segments = new LinkedList<>(path.getSegments());
+        final List<ConfigPathSegment> segments = new ArrayList<>(path.getSegments());
         return new Builder(segments);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ConfigPath that = (ConfigPath) o;
+        return hash == that.hash && segments.equals(that.segments);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
     @Override
     public String toString() {
         return segments.stream().map(ConfigPathSegment::toString).reduce("", (a, b) -> a + (a.isEmpty() ? "" : ".") + b);
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.internal.node;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of the parsed {@link ConfigPath}s, so that the paths resolved again and again (the
+ * {@code @Configuration} paths, the paths of the loaders, the paths of the injected fields and methods) are parsed once.
+ * Once the cache is full, the new paths are parsed and not cached.
+ */
+public final class ConfigPathCache {
+    /* package */ static final int MAX_SIZE = 4096;
+
+    private static final ConcurrentMap<String, ConfigPath> PATHS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<ChildKey, ConfigPath> CHILDREN = new ConcurrentHashMap<>();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private ConfigPathCache() {
+    }
+
+    /**
+     * Get the parsed path.
+     * @param path the path to parse, {@code null} for the root path.
+     * @return the parsed path.
+     */
+    public static ConfigPath path(String path) {
+        final String key = path == null ? "" : path;
+        ConfigPath configPath = PATHS.get(key);
+        if (configPath != null) {
+            HITS.increment();
+            return configPath;
+        }
+        MISSES.increment();
+        configPath = ConfigPath.from(key).build();
+        return store(PATHS, key, configPath);
+    }
+
+    /**
+     * Get the path of the sub-node.
+     * @param parent the path of the parent node.
+     * @param path the path of the sub-node relative to the parent node.
+     * @return the path of the sub-node.
+     */
+    public static ConfigPath child(ConfigPath parent, String path) {
+        final ChildKey key = new ChildKey(parent, path);
+        ConfigPath configPath = CHILDREN.get(key);
+        if (configPath != null) {
+            HITS.increment();
+            return configPath;
+        }
+        MISSES.increment();
+        configPath = ConfigPath.from(parent).append(path).build();
+        return store(CHILDREN, key, configPath);
+    }
+
+    private static <K> ConfigPath store(ConcurrentMap<K, ConfigPath> map, K key, ConfigPath configPath) {
+        if (map.size() >= MAX_SIZE) {
+            return configPath;
+        }
+        final ConfigPath previous = map.putIfAbsent(key, configPath);
+        return previous == null ? configPath : previous;
+    }
+
+    /**
+     * The number of the paths found in the cache.
+     * @return the number of the cache hits.
+     */
+    public static long hits() {
+        return HITS.sum();
+    }
+
+    /**
+     * The number of the paths that needed to be parsed.
+     * @return the number of the cache misses.
+     */
+    public static long misses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * The number of the cached paths.
+     * @return the number of the cached paths.
+     */
+    public static int size() {
+        return PATHS.size() + CHILDREN.size();
+    }
+
+    /**
+     * Remove all the cached paths and reset the counters.
+     */
+    public static void clear() {
+        PATHS.clear();
+        CHILDREN.clear();
+        HITS.reset();
+        MISSES.reset();
+    }
+
+    private static final class ChildKey {
+        private final ConfigPath parent;
+        private final String path;
+        private final int hash;
+
+        private ChildKey(ConfigPath parent, String path) {
+            this.parent = parent;
+            this.path = path;
+            this.hash = 31 * parent.hashCode() + path.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ChildKey that = (ChildKey) o;
+            return hash == that.hash && path.equals(that.path) && parent.equals(that.parent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -16,8 +16,8 @@
 
 package poc.jakarta.config.internal.node;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 
 final class ConfigSegmentParser {
@@ -67,8 +67,69 @@ final class ConfigSegmentParser {
         if (path == null) {
             return Collections.EMPTY_LIST;
         }
-        final List<ConfigPath.ConfigPathSegment> segments = new LinkedList<>();
-        StringBuilder sb = new StringBuilder();
+        final List<ConfigPath.ConfigPathSegment> segments = new ArrayList<>();
+        parse(path, segments);
+        return segments;
+    }
+
+    /**
+     * Parse the path and add the segments to the given list. The paths without a comment are split on the dots,
+     * only the paths containing {@code '/'} go through the comment state machine.
+     */
+    static void parse(String path, List<ConfigPath.ConfigPathSegment> segments) {
+        if (path == null) {
+            return;
+        }
+        parse(path, 0, path.length(), segments);
+    }
+
+    /**
+     * Parse the part of the path between {@code begin} and {@code end} and add the segments to the given list.
+     */
+    static void parse(CharSequence path, int begin, int end, List<ConfigPath.ConfigPathSegment> segments) {
+        if (indexOf(path, '/', begin, end) == -1) {
+            split(path, begin, end, segments);
+        } else {
+            parseComments(string(path, begin, end), segments);
+        }
+    }
+
+    private static void split(CharSequence path, int begin, int end, List<ConfigPath.ConfigPathSegment> segments) {
+        int dot;
+        while ((dot = indexOf(path, '.', begin, end)) != -1) {
+            segments.add(segment(path, begin, dot));
+            begin = dot + 1;
+        }
+        if (begin != end) {
+            segments.add(segment(path, begin, end));
+        }
+    }
+
+    private static ConfigPath.ConfigPathSegment segment(CharSequence path, int begin, int end) {
+        while (begin < end && path.charAt(begin) <= ' ') {
+            begin++;
+        }
+        while (end > begin && path.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return ConfigPath.ConfigPathSegment.of(string(path, begin, end));
+    }
+
+    private static String string(CharSequence path, int begin, int end) {
+        return begin == 0 && end == path.length() ? path.toString() : path.subSequence(begin, end).toString();
+    }
+
+    private static int indexOf(CharSequence path, char c, int begin, int end) {
+        for (int i = begin; i < end; i++) {
+            if (path.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void parseComments(String path, List<ConfigPath.ConfigPathSegment> segments) {
+        final StringBuilder sb = new StringBuilder(path.length());
         String append = null;
         S state = S.BEGIN;
         boolean exception = false;
@@ -94,15 +155,17 @@ final class ConfigSegmentParser {
             state = transionTable[tableIndex][state.value];
 
             if (append != null) {
-                sb.append(append.replace('c', c));
+                for (int j = 0; j != append.length(); j++) {
+                    final char a = append.charAt(j);
+                    sb.append(a == 'c' ? c : a);
+                }
             }
             if (exception) {
                 throw new ConfigPathException("Config path segment cannot contain two comments:" + path);
             }
             if (S.SEPAR == state) {
-                final ConfigPath.ConfigPathSegment segment = new ConfigPath.ConfigPathSegment(sb.toString());
-                segments.add(segment);
-                sb = new StringBuilder();
+                segments.add(ConfigPath.ConfigPathSegment.of(sb.toString()));
+                sb.setLength(0);
             }
         }
         switch (state) {
@@ -112,12 +175,9 @@ final class ConfigSegmentParser {
                 throw new ConfigPathException("Config path segment contains unclosed comment:" + path);
             default:
                 if (sb.length() != 0) {
-                    final ConfigPath.ConfigPathSegment segment = new ConfigPath.ConfigPathSegment(sb.toString());
-                    segments.add(segment);
+                    segments.add(ConfigPath.ConfigPathSegment.of(sb.toString()));
                 }
                 break;
         }
-
-        return segments;
     }
 }
@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.internal.node;
+
+import poc.jakarta.config.node.Data;
+import poc.jakarta.config.node.NodeData;
+import poc.jakarta.config.value.ConfigNodeValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * <p>
+ *     Immutable, read-optimized snapshot of a {@link ConfigNode} tree. Once all the sources are merged, the Config Tree
+ *     does not change, and it is compacted to this form: the children are kept in an array sorted by the keys and are
+ *     looked up by a binary search, the keys are interned so that the same key is shared by all the nodes, there are no
+ *     parent pointers, and no {@link Optional} is created when navigating the tree.
+ * </p>
+ * <p>
+ *     The root node keeps a flat index of all the nodes by their full path, so that finding a node from the root is
+ *     a single hash lookup. Finding a node from any other node navigates the tree. A patched Config Tree shares the
+ *     index with the Config Tree it was patched from, only the paths of the copied nodes are kept aside.
+ * </p>
+ */
+public final class FrozenConfigNode implements NodeData {
+    private static final ConfigPath.ConfigPathSegment[] NO_KEYS = new ConfigPath.ConfigPathSegment[0];
+    private static final FrozenConfigNode[] NO_CHILDREN = new FrozenConfigNode[0];
+    private static final ConfigPath ROOT_PATH = ConfigPath.from("").build();
+
+    private final ConfigPath.ConfigPathSegment key;
+    private final ConfigNodeValue value;
+    private final ConfigPath.ConfigPathSegment[] keys;
+    private final FrozenConfigNode[] children;
+    private final Index index; // root only
+    private Data data; // racy, the fields of Data are final
+
+    private FrozenConfigNode(ConfigPath.ConfigPathSegment key, ConfigNodeValue value,
+                             ConfigPath.ConfigPathSegment[] keys, FrozenConfigNode[] children) {
+        this(key, value, keys, children, null);
+    }
+
+    private FrozenConfigNode(ConfigPath.ConfigPathSegment key, ConfigNodeValue value,
+                             ConfigPath.ConfigPathSegment[] keys, FrozenConfigNode[] children,
+                             Index index) {
+        this.key = key;
+        this.value = value;
+        this.keys = keys;
+        this.children = children;
+        this.index = index;
+    }
+
+    /* package */ static FrozenConfigNode freeze(ConfigNode node) {
+        return indexed(freezeNode(node));
+    }
+
+    /**
+     * Merge the Config Trees of the sources into a single frozen Config Tree. The values of the later trees take
+     * precedence, as when the sources are loaded one by one into the same tree. The trees are not changed, the
+     * sub-trees of a {@link FrozenConfigNode} not merged with another tree are shared by the merged tree.
+     * @param trees the {@link ConfigNode} or {@link FrozenConfigNode} trees of the sources, in the order of the sources.
+     * @return the merged frozen Config Tree.
+     */
+    public static FrozenConfigNode merge(List<? extends NodeData> trees) {
+        if (trees.size() == 1 && trees.get(0) instanceof FrozenConfigNode
+                && ((FrozenConfigNode) trees.get(0)).index != null) {
+            return (FrozenConfigNode) trees.get(0);
+        }
+        return indexed(mergeNodes(trees));
+    }
+
+    /**
+     * Copy this Config Tree to a new {@link ConfigNode} tree, to be changed or merged by the sources loaded one by
+     * one. The immutable values are shared with the copy.
+     * @return The {@link ConfigNode} copy of this Config Tree.
+     */
+    public ConfigNode toConfigNode() {
+        final ConfigNode node = new ConfigNode(key).value(value);
+        for (FrozenConfigNode child : children) {
+            node.add(child.toConfigNode());
+        }
+        return node;
+    }
+
+    private static FrozenConfigNode indexed(FrozenConfigNode root) {
+        final Map<ConfigPath, FrozenConfigNode> index = new HashMap<>();
+        // The root node is not indexed, it is replaced by each patch
+        for (FrozenConfigNode child : root.children) {
+            index(child, ROOT_PATH.child(child.key), index);
+        }
+        return new FrozenConfigNode(root.key, root.value, root.keys, root.children, new Index(index, Map.of()));
+    }
+
+    private static void index(FrozenConfigNode node, ConfigPath path, Map<ConfigPath, FrozenConfigNode> index) {
+        index.put(path, node);
+        for (FrozenConfigNode child : node.children) {
+            index(child, path.child(child.key), index);
+        }
+    }
+
+    private static FrozenConfigNode freezeNode(ConfigNode node) {
+        final ConfigPath.ConfigPathSegment key = ConfigPath.ConfigPathSegment.of(node.key());
+        final int size = node.size();
+        if (size == 0) {
+            return new FrozenConfigNode(key, node.value().orElse(null), NO_KEYS, NO_CHILDREN);
+        }
+        // The children of the ConfigNode are sorted
+        final ConfigPath.ConfigPathSegment[] keys = new ConfigPath.ConfigPathSegment[size];
+        final FrozenConfigNode[] children = new FrozenConfigNode[size];
+        int i = 0;
+        for (ConfigNode child : node) {
+            children[i] = freezeNode(child);
+            keys[i] = children[i].key;
+            i++;
+        }
+        return new FrozenConfigNode(key, node.value().orElse(null), keys, children);
+    }
+
+    /**
+     * Copy this Config Tree with the changed values. Only the nodes on the paths of the changes are copied, the
+     * untouched sub-trees are shared with this Config Tree, which is not changed. The nodes left with no value and no
+     * sub-node are removed.
+     * @param changes the new values by their paths, a {@code null} value removes the value.
+     * @return the changed Config Tree.
+     */
+    public FrozenConfigNode patch(Map<ConfigPath, ConfigNodeValue> changes) {
+        // The paths of the copied nodes, null when removed, over the index of this Config Tree
+        final Map<ConfigPath, FrozenConfigNode> patchedIndex = index == null ? null : new HashMap<>(index.overlay);
+        FrozenConfigNode root = this;
+        for (Map.Entry<ConfigPath, ConfigNodeValue> change : changes.entrySet()) {
+            final List<ConfigPath.ConfigPathSegment> segments = change.getKey().getSegments();
+            final ConfigPath[] prefixes = new ConfigPath[segments.size() + 1];
+            prefixes[0] = ROOT_PATH;
+            for (int i = 0; i != segments.size(); i++) {
+                prefixes[i + 1] = prefixes[i].child(segments.get(i));
+            }
+            final FrozenConfigNode patched = patch(root, key, segments, 0, prefixes, change.getValue(), patchedIndex);
+            root = patched != null ? patched : new FrozenConfigNode(key, null, NO_KEYS, NO_CHILDREN);
+        }
+        if (patchedIndex == null) {
+            return root;
+        }
+        patchedIndex.remove(ROOT_PATH);
+        return new FrozenConfigNode(root.key, root.value, root.keys, root.children, index.patch(patchedIndex));
+    }
+
+    // The patched node, or null when the node is removed
+    private static FrozenConfigNode patch(FrozenConfigNode node, ConfigPath.ConfigPathSegment key,
+                                          List<ConfigPath.ConfigPathSegment> segments, int depth, ConfigPath[] prefixes,
+                                          ConfigNodeValue value, Map<ConfigPath, FrozenConfigNode> index) {
+        ConfigNodeValue newValue;
+        ConfigPath.ConfigPathSegment[] newKeys = node == null ? NO_KEYS : node.keys;
+        FrozenConfigNode[] newChildren = node == null ? NO_CHILDREN : node.children;
+        if (depth == segments.size()) {
+            newValue = value;
+        } else {
+            final ConfigPath.ConfigPathSegment segment = segments.get(depth);
+            final int i = Arrays.binarySearch(newKeys, segment);
+            final FrozenConfigNode child = i < 0 ? null : newChildren[i];
+            final FrozenConfigNode newChild = patch(child, segment, segments, depth + 1, prefixes, value, index);
+            if (child == null && newChild == null) {
+                return node;
+            }
+            if (newChild == null) {
+                newKeys = remove(newKeys, i, NO_KEYS);
+                newChildren = remove(newChildren, i, NO_CHILDREN);
+            } else if (child == null) {
+                newKeys = insert(newKeys, -i - 1, segment);
+                newChildren = insert(newChildren, -i - 1, newChild);
+            } else {
+                newChildren = newChildren.clone();
+                newChildren[i] = newChild;
+            }
+            newValue = node == null ? null : node.value;
+        }
+        if (newValue == null && newChildren.length == 0) {
+            if (index != null) {
+                index.put(prefixes[depth], null);
+            }
+            return null;
+        }
+        final FrozenConfigNode patched = new FrozenConfigNode(key, newValue, newKeys, newChildren);
+        if (index != null) {
+            index.put(prefixes[depth], patched);
+        }
+        return patched;
+    }
+
+    private static <T> T[] insert(T[] array, int index, T element) {
+        final T[] inserted = Arrays.copyOf(array, array.length + 1);
+        System.arraycopy(array, index, inserted, index + 1, array.length - index);
+        inserted[index] = element;
+        return inserted;
+    }
+
+    private static <T> T[] remove(T[] array, int index, T[] empty) {
+        if (array.length == 1) {
+            return empty;
+        }
+        final T[] removed = Arrays.copyOf(array, array.length - 1);
+        System.arraycopy(array, index + 1, removed, index, array.length - index - 1);
+        return removed;
+    }
+
+    private static FrozenConfigNode mergeNodes(List<? extends NodeData> nodes) {
+        if (nodes.size() == 1) {
+            final NodeData node = nodes.get(0);
+            return node instanceof FrozenConfigNode ? (FrozenConfigNode) node : freezeNode((ConfigNode) node);
+        }
+        ConfigNodeValue value = null;
+        final SortedMap<ConfigPath.ConfigPathSegment, List<NodeData>> merged = new TreeMap<>();
+        for (NodeData node : nodes) {
+            final ConfigNodeValue nodeValue = node.valueOrNull();
+            if (nodeValue != null) {
+                value = nodeValue;
+            }
+            for (NodeData child : node.properties()) {
+                merged.computeIfAbsent(segment(child), k -> new ArrayList<>(2)).add(child);
+            }
+        }
+        final ConfigPath.ConfigPathSegment key = segment(nodes.get(0));
+        if (merged.isEmpty()) {
+            return new FrozenConfigNode(key, value, NO_KEYS, NO_CHILDREN);
+        }
+        final ConfigPath.ConfigPathSegment[] keys = merged.keySet().toArray(NO_KEYS);
+        final FrozenConfigNode[] children = new FrozenConfigNode[keys.length];
+        int i = 0;
+        for (List<NodeData> child : merged.values()) {
+            children[i++] = mergeNodes(child);
+        }
+        return new FrozenConfigNode(key, value, keys, children);
+    }
+
+    private static ConfigPath.ConfigPathSegment segment(NodeData node) {
+        return node instanceof FrozenConfigNode
+                ? ((FrozenConfigNode) node).key
+                : ConfigPath.ConfigPathSegment.of(node.key());
+    }
+
+    @Override
+    public String key() {
+        return key.getName();
+    }
+
+    @Override
+    public Optional<ConfigNodeValue> value() {
+        return Optional.ofNullable(value);
+    }
+
+    @Override
+    public ConfigNodeValue valueOrNull() {
+        return value;
+    }
+
+    @Override
+    public List<FrozenConfigNode> properties() {
+        return Collections.unmodifiableList(Arrays.asList(children));
+    }
+
+    /**
+     * The {@link Data} view of this Config Node, created on the first use. The patched Config Nodes are new nodes,
+     * the view of an unchanged Config Node is shared by the patched Config Trees.
+     * @return the {@link Data} view.
+     */
+    public Data data() {
+        Data data = this.data;
+        if (data == null) {
+            data = ConfigNodeWalker.toData(this);
+            this.data = data;
+        }
+        return data;
+    }
+
+    /**
+     * The number of the direct sub-nodes.
+     * @return the number of the direct sub-nodes.
+     */
+    public int size() {
+        return children.length;
+    }
+
+    /**
+     * The direct sub-node, in the order of the keys.
+     * @param index the index of the sub-node.
+     * @return the sub-node.
+     */
+    public FrozenConfigNode child(int index) {
+        return children[index];
+    }
+
+    /**
+     * The direct sub-node with the given key.
+     * @param segment the key of the sub-node.
+     * @return the sub-node, or {@code null} when there is no such sub-node.
+     */
+    public FrozenConfigNode child(ConfigPath.ConfigPathSegment segment) {
+        final int index = Arrays.binarySearch(keys, segment);
+        return index < 0 ? null : children[index];
+    }
+
+    /**
+     * Navigate to the Config Node on the path relative to this Config Node.
+     * @param path the relative path.
+     * @return the Config Node on the path, or {@code null} when there is no such Config Node.
+     */
+    public FrozenConfigNode find(ConfigPath path) {
+        if (index != null) {
+            return path.getSegments().isEmpty() ? this : index.get(path);
+        }
+        FrozenConfigNode node = this;
+        for (ConfigPath.ConfigPathSegment segment : path.getSegments()) {
+            node = node.child(segment);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    // Can be both leaf and sub-node
+    public boolean isLeaf() {
+        return value != null;
+    }
+
+    // Can be both leaf and sub-node
+    public boolean isSubNode() {
+        return children.length != 0;
+    }
+
+    /**
+     * The flat index of the nodes by their paths. The paths of the nodes copied by the patches are kept in a small
+     * overlay over the index shared by the patched Config Trees. Once the overlay outgrows a few times the square
+     * root of the size of the index, it is compacted into a new index, so a patch of a few paths does not copy the
+     * whole index.
+     */
+    private static final class Index {
+        private static final int MIN_OVERLAY = 64;
+
+        private final Map<ConfigPath, FrozenConfigNode> base;
+        // The copied nodes by their paths, null when removed
+        private final Map<ConfigPath, FrozenConfigNode> overlay;
+
+        private Index(Map<ConfigPath, FrozenConfigNode> base, Map<ConfigPath, FrozenConfigNode> overlay) {
+            this.base = base;
+            this.overlay = overlay;
+        }
+
+        private FrozenConfigNode get(ConfigPath path) {
+            if (!overlay.isEmpty()) {
+                final FrozenConfigNode node = overlay.get(path);
+                if (node != null || overlay.containsKey(path)) {
+                    return node;
+                }
+            }
+            return base.get(path);
+        }
+
+        private Index patch(Map<ConfigPath, FrozenConfigNode> patchedOverlay) {
+            if (patchedOverlay.size() <= Math.max(MIN_OVERLAY, 4 * (int) Math.sqrt(base.size()))) {
+                return new Index(base, patchedOverlay);
+            }
+            final Map<ConfigPath, FrozenConfigNode> compacted = new HashMap<>(base);
+            for (Map.Entry<ConfigPath, FrozenConfigNode> entry : patchedOverlay.entrySet()) {
+                if (entry.getValue() == null) {
+                    compacted.remove(entry.getKey());
+                } else {
+                    compacted.put(entry.getKey(), entry.getValue());
+                }
+            }
+            return new Index(compacted, Map.of());
+        }
+    }
+}
@@ -17,9 +17,10 @@
 package poc.jakarta.config.internal.source;
 
 import poc.jakarta.config.internal.node.ConfigNode;
+import poc.jakarta.config.internal.node.FrozenConfigNode;
 import poc.jakarta.config.source.PropertyResourceFileSource;
 
-public final class DefaultPropertyFileSource implements Source {
+public final class DefaultPropertyFileSource implements Source, FrozenSource {
     private final PropertyResourceFileSource resourceFileSource;
 
     public DefaultPropertyFileSource() {
@@ -30,4 +31,9 @@ public final class DefaultPropertyFileSource implements Source {
     public ConfigNode load(ConfigNode parent) {
         return resourceFileSource.load(parent);
     }
+
+    @Override
+    public FrozenConfigNode loadFrozen() {
+        return resourceFileSource.loadFrozen();
+    }
 }
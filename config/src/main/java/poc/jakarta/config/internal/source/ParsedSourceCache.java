@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package poc.jakarta.config.internal.source;
+
+import jakarta.config.ConfigException;
+import poc.jakarta.config.internal.node.ConfigNode;
+import poc.jakarta.config.internal.node.FrozenConfigNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Process-wide cache of the parsed properties resources, so the loaders reading the same resource parse it once.
+ * The resource is identified by its URL and its content, the last modified time and the size of the file, or of the
+ * jar file of a resource in a jar, or the hash of the content of the other resources. The parsed Config Trees are
+ * immutable and shared by the loaders, they are softly referenced, released when the memory is needed and parsed
+ * again on the next load.
+ */
+public final class ParsedSourceCache {
+    private static final ConcurrentMap<String, SoftReference<Parsed>> CACHE = new ConcurrentHashMap<>();
+
+    private ParsedSourceCache() {
+    }
+
+    /**
+     * Load the properties resource, from the cache when the resource has not changed since it was parsed.
+     * @param url the URL of the properties resource.
+     * @return the shared immutable Config Tree of the resource.
+     */
+    public static FrozenConfigNode load(URL url) {
+        final String key = url.toExternalForm();
+        final Path file = file(url);
+        final Object stamp;
+        byte[] content = null;
+        try {
+            if (file != null) {
+                stamp = new FileStamp(Files.getLastModifiedTime(file).toMillis(), Files.size(file));
+            } else {
+                content = read(url, true);
+                stamp = new ContentStamp(content);
+            }
+            Parsed parsed = parsed(key, stamp);
+            if (parsed == null) {
+                if (content == null) {
+                    // The jar file has changed, do not read through the stale jar file cached by the JDK
+                    content = read(url, false);
+                }
+                parsed = new Parsed(stamp, new PropertyStringSource(new String(content, StandardCharsets.UTF_8))
+                        .load(null).freeze());
+                CACHE.put(key, new SoftReference<>(parsed));
+            }
+            return parsed.tree;
+        } catch (IOException e) {
+            throw new ConfigException(e);
+        }
+    }
+
+    /**
+     * Load the properties resource into the changeable Config Tree, see {@link #load(URL)}.
+     * @param url    the URL of the properties resource.
+     * @param parent Nullable {@link ConfigNode} config the resource is added to.
+     * @return merged configs from parent and the resource.
+     */
+    public static ConfigNode load(URL url, ConfigNode parent) {
+        final ConfigNode tree = load(url).toConfigNode();
+        return parent == null ? tree : parent.merge(tree);
+    }
+
+    private static Parsed parsed(String key, Object stamp) {
+        final SoftReference<Parsed> reference = CACHE.get(key);
+        final Parsed parsed = reference == null ? null : reference.get();
+        return parsed != null && parsed.stamp.equals(stamp) ? parsed : null;
+    }
+
+    // The file, or the jar file of the resource in a jar, whose last modified time and size identify the content
+    private static Path file(URL url) {
+        if ("jar".equals(url.getProtocol())) {
+            try {
+                final URLConnection connection = url.openConnection();
+                // Not connected, the jar file URL is parsed from the resource URL
+                return connection instanceof JarURLConnection
+                        ? file(((JarURLConnection) connection).getJarFileURL())
+                        : null;
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        if (!"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            return Path.of(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static byte[] read(URL url, boolean useCaches) throws IOException {
+        final URLConnection connection = url.openConnection();
+        connection.setUseCaches(useCaches);
+        try (InputStream inputStream = connection.getInputStream()) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private static final class Parsed {
+        private final Object stamp;
+        private final FrozenConfigNode tree;
+
+        private Parsed(Object stamp, FrozenConfigNode tree) {
+            this.stamp = stamp;
+            this.tree = tree;
+        }
+    }
+
+    private static final class FileStamp {
+        private final long lastModified;
+        private final long size;
+
+        private FileStamp(long lastModified, long size) {
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final FileStamp other = (FileStamp) o;
+            return lastModified == other.lastModified && size == other.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lastModified, size);
+        }
+    }
+
+    private static final class ContentStamp {
+        private final byte[] hash;
+
+        private ContentStamp(byte[] content) {
+            try {
+                hash = MessageDigest.getInstance("SHA-256").digest(content);
+            } catch (NoSuchAlgorithmException e) {
+                throw new ConfigException(e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            return Arrays.equals(hash, ((ContentStamp) o).hash);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(hash);
+        }
+    }
+}
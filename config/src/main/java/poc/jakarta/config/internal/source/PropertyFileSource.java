@@ -23,8 +23,9 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 
-public final class PropertyFileSource implements Source {
+public final class PropertyFileSource implements Source, WatchableSource {
     private final File resource;
 
     public PropertyFileSource(File resource) {
@@ -33,13 +34,17 @@ public final class PropertyFileSource implements Source {
 
     @Override
     public ConfigNode load(ConfigNode parent) {
-        try {
+        try (FileInputStream inputStream = new FileInputStream(resource)) {
             // Lazy
-            String file = new String(new FileInputStream(resource).readAllBytes(), StandardCharsets.UTF_8);
+            String file = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
             return new PropertyStringSource(file).load(parent);
         } catch (IOException e) {
             throw new ConfigException(e);
         }
     }
 
+    @Override
+    public Path file() {
+        return resource.toPath();
+    }
 }
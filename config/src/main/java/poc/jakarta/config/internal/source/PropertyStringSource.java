@@ -22,12 +22,10 @@ import poc.jakarta.config.internal.node.ConfigPath;
 import poc.jakarta.config.internal.value.CollectionNodeValue;
 import poc.jakarta.config.internal.value.StringNodeValue;
 
-import java.util.StringTokenizer;
-
 public final class PropertyStringSource implements Source {
-    public final String source;
+    public final CharSequence source;
 
-    public PropertyStringSource(String source) {
+    public PropertyStringSource(CharSequence source) {
         this.source = source;
     }
 
@@ -36,59 +34,117 @@ public final class PropertyStringSource implements Source {
         return load(parent, source);
     }
 
-    private static ConfigNode load(ConfigNode parent, String file) {
+    private static ConfigNode load(ConfigNode parent, CharSequence file) {
         return new PropertyFileParser(parent, file).parse().get();
     }
 
     private static class PropertyFileParser {
-        private final String config;
+        private final CharSequence config;
         private ConfigNodeBuilder builder;
 
-        private PropertyFileParser(ConfigNode parent, String config) {
+        private PropertyFileParser(ConfigNode parent, CharSequence config) {
             this.config = config;
             if (parent != null) {
                 builder = parent.toBuilder();
             }
         }
 
+        /**
+         * Single pass over the rows, the key and the value are read as spans of the source and only the segments
+         * and the values are materialized.
+         */
         private PropertyFileParser parse() {
-            StringTokenizer tokenizer = new StringTokenizer(config, "\n");
-            while (tokenizer.hasMoreTokens()) {
-                parseRow(tokenizer.nextToken().trim());
+            final int length = config.length();
+            int rowBegin = 0;
+            while (rowBegin < length) {
+                int rowEnd = indexOf('\n', rowBegin, length);
+                if (rowEnd == -1) {
+                    rowEnd = length;
+                }
+                parseRow(rowBegin, rowEnd);
+                rowBegin = rowEnd + 1;
             }
             return this;
         }
 
-        private void parseRow(String row) {
-            if (row.startsWith("#") || row.isBlank()) { // Comment or empty
+        private void parseRow(int begin, int end) {
+            begin = skipWhitespace(begin, end);
+            end = trimWhitespace(begin, end);
+            if (begin == end || config.charAt(begin) == '#') { // Comment or empty
                 return;
             }
 
-            String[] keyVal = row.split("=", 2);
-            if (keyVal.length != 2) {
-                throw new ConfigException("Unable to parse property row " + row);
+            final int separator = indexOf('=', begin, end);
+            if (separator == -1) {
+                throw new ConfigException("Unable to parse property row " + config.subSequence(begin, end).toString());
             }
 
-            ConfigPath path = ConfigPath.from(keyVal[0]).build();
+            ConfigPath path = ConfigPath.from(config, begin, separator).build();
             if (builder == null) {
                 builder = ConfigNode.from(path);
             } else {
                 builder.path(path);
             }
-            parseValue(keyVal[1]);
+            parseValue(separator + 1, end);
         }
 
-        private void parseValue(String value) {
-            String[] values = value.split(",");
-            if (values.length == 1) {
-                builder.value(new StringNodeValue(value.trim()));
-            } else {
-                StringNodeValue[] stringNodeValues = new StringNodeValue[values.length];
-                for (int i = 0; i != values.length; i++) {
-                    stringNodeValues[i] = new StringNodeValue(values[i].trim());
+        private void parseValue(int begin, int end) {
+            int comma = indexOf(',', begin, end);
+            if (comma == -1) {
+                builder.value(new StringNodeValue(trimmed(begin, end)));
+                return;
+            }
+            // As String#split, the trailing empty values are removed
+            int last = end;
+            while (last > begin && config.charAt(last - 1) == ',') {
+                last--;
+            }
+            int count = last == begin ? 0 : 1;
+            for (int i = begin; i != last; i++) {
+                if (config.charAt(i) == ',') {
+                    count++;
                 }
-                builder.value(new CollectionNodeValue(stringNodeValues));
             }
+            if (count == 1) {
+                builder.value(new StringNodeValue(trimmed(begin, end)));
+                return;
+            }
+            final StringNodeValue[] stringNodeValues = new StringNodeValue[count];
+            int valueBegin = begin;
+            for (int i = 0; i != count; i++) {
+                comma = i == count - 1 ? last : indexOf(',', valueBegin, last);
+                stringNodeValues[i] = new StringNodeValue(trimmed(valueBegin, comma));
+                valueBegin = comma + 1;
+            }
+            builder.value(new CollectionNodeValue(stringNodeValues));
+        }
+
+        private int indexOf(char c, int begin, int end) {
+            for (int i = begin; i < end; i++) {
+                if (config.charAt(i) == c) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private String trimmed(int begin, int end) {
+            begin = skipWhitespace(begin, end);
+            return config.subSequence(begin, trimWhitespace(begin, end)).toString();
+        }
+
+        private int skipWhitespace(int begin, int end) {
+            while (begin < end && config.charAt(begin) <= ' ') {
+                begin++;
+            }
+            return begin;
+        }
+
+        private int trimWhitespace(int begin, int end) {
+            while (end > begin && config.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            return end;
         }
 
         private ConfigNode get() {
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.internal.source;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ *     Watches the files of the {@link WatchableSource}s and reports the changed files on a daemon thread. The
+ *     directories of the files are registered with a {@link WatchService}, when the file system does not support it,
+ *     the files are polled.
+ * </p>
+ * <p>
+ *     A file is changed when its last modified time or its size changes, the {@link WatchService} only wakes the
+ *     thread up before the poll interval elapses.
+ * </p>
+ */
+public final class SourceWatcher implements AutoCloseable {
+    // Let the writer finish, the events of a single write are reported as one change
+    private static final long SETTLE_MILLIS = 50;
+
+    private final List<Path> files;
+    private final long[] modified;
+    private final long[] sizes;
+    private final long intervalMillis;
+    private final Consumer<BitSet> listener;
+    private final WatchService watchService;
+    private final Thread thread;
+    private volatile boolean closed;
+
+    /**
+     * Start watching the files, a file is changed when it differs from its stamp.
+     * @param stamps the watched files, stamped before they were loaded, see {@link #stamp(List)}.
+     * @param interval the poll interval, the longest time before a change is noticed.
+     * @param listener notified with the indexes of the changed files.
+     */
+    public SourceWatcher(Stamps stamps, Duration interval, Consumer<BitSet> listener) {
+        this.files = stamps.files;
+        this.modified = stamps.modified.clone();
+        this.sizes = stamps.sizes.clone();
+        this.intervalMillis = Math.max(1, interval.toMillis());
+        this.listener = listener;
+        this.watchService = watchService(this.files);
+        this.thread = new Thread(this::run, "poc-config-source-watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Stamp the files by their last modified times and sizes. The files are stamped before they are loaded, a change
+     * while they are being loaded is then reloaded.
+     * @param files the files.
+     * @return the stamps of the files.
+     */
+    public static Stamps stamp(List<Path> files) {
+        final Stamps stamps = new Stamps(files);
+        changed(stamps.files, stamps.modified, stamps.sizes);
+        return stamps;
+    }
+
+    /**
+     * Whether the files are watched by a {@link WatchService}, or polled.
+     * @return {@code true} when the {@link WatchService} is used.
+     */
+    public boolean isWatching() {
+        return watchService != null;
+    }
+
+    private static WatchService watchService(List<Path> files) {
+        if (files.isEmpty()) {
+            return null;
+        }
+        final FileSystem fileSystem = files.get(0).toAbsolutePath().getFileSystem();
+        WatchService watchService = null;
+        try {
+            watchService = fileSystem.newWatchService();
+            final Set<Path> directories = new HashSet<>();
+            for (Path file : files) {
+                final Path directory = file.toAbsolutePath().getParent();
+                if (directory.getFileSystem() != fileSystem) {
+                    watchService.close();
+                    return null;
+                }
+                if (directories.add(directory)) {
+                    directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                }
+            }
+            return watchService;
+        } catch (IOException | UnsupportedOperationException e) {
+            if (watchService != null) {
+                try {
+                    watchService.close();
+                } catch (IOException ignored) {
+                    // polled
+                }
+            }
+            return null;
+        }
+    }
+
+    private void run() {
+        while (!closed) {
+            try {
+                await();
+                final BitSet changed = changed();
+                if (!changed.isEmpty() && !closed) {
+                    listener.accept(changed);
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            } catch (RuntimeException e) {
+                // The listener handles its failures, keep watching
+            }
+        }
+    }
+
+    private void await() throws InterruptedException {
+        if (watchService == null) {
+            Thread.sleep(intervalMillis);
+            return;
+        }
+        WatchKey key = watchService.poll(intervalMillis, TimeUnit.MILLISECONDS);
+        if (key != null) {
+            Thread.sleep(SETTLE_MILLIS);
+            do {
+                key.pollEvents();
+                key.reset();
+            } while ((key = watchService.poll()) != null);
+        }
+    }
+
+    private BitSet changed() {
+        return changed(files, modified, sizes);
+    }
+
+    private static BitSet changed(List<Path> files, long[] modified, long[] sizes) {
+        final BitSet changed = new BitSet(files.size());
+        for (int i = 0; i != files.size(); i++) {
+            long fileModified;
+            long fileSize;
+            try {
+                fileModified = Files.getLastModifiedTime(files.get(i)).toMillis();
+                fileSize = Files.size(files.get(i));
+            } catch (IOException e) {
+                // Deleted or not readable
+                fileModified = -1;
+                fileSize = -1;
+            }
+            if (fileModified != modified[i] || fileSize != sizes[i]) {
+                modified[i] = fileModified;
+                sizes[i] = fileSize;
+                changed.set(i);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * The last modified times and the sizes of the files.
+     */
+    public static final class Stamps {
+        private final List<Path> files;
+        private final long[] modified;
+        private final long[] sizes;
+
+        private Stamps(List<Path> files) {
+            this.files = List.copyOf(files);
+            this.modified = new long[files.size()];
+            this.sizes = new long[files.size()];
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        thread.interrupt();
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ignored) {
+                // closing
+            }
+        }
+    }
+}
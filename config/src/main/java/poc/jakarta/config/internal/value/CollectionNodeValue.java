@@ -17,11 +17,15 @@
 package poc.jakarta.config.internal.value;
 
 import poc.jakarta.config.value.ConfigNodeValue;
+import poc.jakarta.config.value.NodeValueConvertor;
 
 import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+import java.util.Arrays;
 
 public final class CollectionNodeValue implements ConfigNodeValue {
     private final ConfigNodeValue[] configNodeValues;
+    private final ConvertedValues converted = new ConvertedValues();
 
     public CollectionNodeValue(ConfigNodeValue... configNodeValues) {
         this.configNodeValues = configNodeValues;
@@ -36,4 +40,22 @@ public final class CollectionNodeValue implements ConfigNodeValue {
     public Object defaultValue() {
         return configNodeValues;
     }
+
+    @Override
+    public <T> T get(Class<T> type, Type genericType, NodeValueConvertor convertor) {
+        return converted.get(type, genericType, convertor, configNodeValues);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CollectionNodeValue that = (CollectionNodeValue) o;
+        return Arrays.equals(configNodeValues, that.configNodeValues);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(configNodeValues);
+    }
 }
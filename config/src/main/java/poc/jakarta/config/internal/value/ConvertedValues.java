@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.internal.value;
+
+import poc.jakarta.config.value.NodeValueConvertor;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The values of a Config Node converted to the user types, for the convertors declaring the converted values
+ * {@link NodeValueConvertor#isCacheable(Class, Type) cacheable}. A node value is mostly converted to a single type,
+ * hence a few entries are kept in an array replaced on each addition. Two threads adding an entry at once might lose
+ * one of the entries, which is then converted again.
+ */
+final class ConvertedValues {
+    private static final int MAX_SIZE = 4;
+    private static final Entry[] EMPTY = new Entry[0];
+
+    private volatile Entry[] entries = EMPTY;
+
+    <T> T get(Class<T> type, Type genericType, NodeValueConvertor convertor, Object value) {
+        if (!convertor.isCacheable(type, genericType)) {
+            return convertor.convert(type, genericType, value);
+        }
+        final Entry[] entries = this.entries;
+        for (Entry entry : entries) {
+            if (entry.type == type && entry.convertor == convertor && Objects.equals(entry.genericType, genericType)) {
+                return (T) entry.value;
+            }
+        }
+        final T converted = convertor.convert(type, genericType, value);
+        if (entries.length < MAX_SIZE) {
+            final Entry[] added = Arrays.copyOf(entries, entries.length + 1);
+            added[entries.length] = new Entry(type, genericType, convertor, converted);
+            this.entries = added;
+        }
+        return converted;
+    }
+
+    private static final class Entry {
+        private final Class<?> type;
+        private final Type genericType;
+        private final NodeValueConvertor convertor;
+        private final Object value;
+
+        private Entry(Class<?> type, Type genericType, NodeValueConvertor convertor, Object value) {
+            this.type = type;
+            this.genericType = genericType;
+            this.convertor = convertor;
+            this.value = value;
+        }
+    }
+}
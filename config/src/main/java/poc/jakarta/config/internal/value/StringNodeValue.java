@@ -17,9 +17,14 @@
 package poc.jakarta.config.internal.value;
 
 import poc.jakarta.config.value.ConfigNodeValue;
+import poc.jakarta.config.value.NodeValueConvertor;
+
+import java.lang.reflect.Type;
+import java.util.Objects;
 
 public final class StringNodeValue implements ConfigNodeValue {
     private final String value;
+    private final ConvertedValues converted = new ConvertedValues();
 
     public StringNodeValue(String value) {
         this.value = value;
@@ -34,4 +39,22 @@ public final class StringNodeValue implements ConfigNodeValue {
     public Object defaultValue() {
         return value;
     }
+
+    @Override
+    public <T> T get(Class<T> type, Type genericType, NodeValueConvertor convertor) {
+        return converted.get(type, genericType, convertor, value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StringNodeValue that = (StringNodeValue) o;
+        return Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(value);
+    }
 }
@@ -15,6 +15,7 @@
  */
 package poc.jakarta.config.internal.value.convertors;
 
+import jakarta.config.ConfigException;
 import poc.jakarta.config.value.ConfigNodeValue;
 import poc.jakarta.config.value.NodeValueConvertor;
 import poc.jakarta.config.value.NodeValueConvertors;
@@ -23,7 +24,7 @@ import java.lang.reflect.Array;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
 
 abstract class MultipleConvertor<TYPE> implements NodeValueConvertor {
 
@@ -57,12 +58,31 @@ abstract class MultipleConvertor<TYPE> implements NodeValueConvertor {
     }
 
     protected <T> T convert(Class<T> type, Type genericType, ConfigNodeValue[] defaultValue) {
-        List<Object> list = new ArrayList<>(defaultValue.length);
+        Collection<Object> collection = newCollection(defaultValue.length);
         Type actualTypeArg = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+        Class<?> elementType = (Class<?>) actualTypeArg;
+        // The elements are mostly of the same default type, the convertor is found once per the default type
+        NodeValueConvertor convertor = null;
+        Class<?> convertorDefaultType = null;
         for (ConfigNodeValue value : defaultValue) {
-            list.add(convertors.convert((Class<?>) actualTypeArg, actualTypeArg, value));
+            if (value.defaultType() != convertorDefaultType) {
+                convertorDefaultType = value.defaultType();
+                convertor = convertors.findConvertor(elementType, actualTypeArg, convertorDefaultType)
+                        .orElseThrow(() -> new ConfigException("Unable to convert type " + elementType
+                                + " generic type " + actualTypeArg + " from " + value.defaultType()));
+            }
+            collection.add(value.get(elementType, actualTypeArg, convertor));
         }
-        return (T) list;
+        return (T) collection;
+    }
+
+    /**
+     * The new collection of the expected class.
+     * @param size the number of the elements.
+     * @return the empty collection.
+     */
+    protected Collection<Object> newCollection(int size) {
+        return new ArrayList<>(size);
     }
 
     protected abstract <T> T convertSingleton(Class<T> type, Type genericType, Object defaultValue);
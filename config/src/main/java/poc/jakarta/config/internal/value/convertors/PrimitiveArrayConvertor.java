@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.internal.value.convertors;
+
+import jakarta.config.ConfigException;
+import poc.jakarta.config.value.ConfigNodeValue;
+import poc.jakarta.config.value.NodeValueConvertor;
+import poc.jakarta.config.value.PrimitiveNodeValueConvertor;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+
+/**
+ * Converts the comma separated values to {@code int[]}, {@code long[]}, or {@code double[]}, each element is converted
+ * by the {@link PrimitiveNodeValueConvertor} and stored to the array without boxing.
+ */
+final class PrimitiveArrayConvertor implements NodeValueConvertor {
+    private final PrimitiveNodeValueConvertor primitives;
+
+    PrimitiveArrayConvertor(PrimitiveNodeValueConvertor primitives) {
+        this.primitives = primitives;
+    }
+
+    @Override
+    public boolean isConvertible(Class<?> type, Type genericType, Class<?> defaultType) {
+        return (type == int[].class || type == long[].class || type == double[].class)
+                && (Array.class.equals(defaultType) || CharSequence.class.isAssignableFrom(defaultType));
+    }
+
+    @Override
+    public <T> T convert(Class<T> type, Type genericType, Object defaultValue) {
+        final ConfigNodeValue[] values = defaultValue instanceof ConfigNodeValue[]
+                ? (ConfigNodeValue[]) defaultValue
+                : null;
+        final int length = values == null ? 1 : values.length;
+        if (type == int[].class) {
+            final int[] array = new int[length];
+            for (int i = 0; i != length; i++) {
+                array[i] = primitives.convertToInt(element(values, defaultValue, i));
+            }
+            return (T) array;
+        } else if (type == long[].class) {
+            final long[] array = new long[length];
+            for (int i = 0; i != length; i++) {
+                array[i] = primitives.convertToLong(element(values, defaultValue, i));
+            }
+            return (T) array;
+        } else {
+            final double[] array = new double[length];
+            for (int i = 0; i != length; i++) {
+                array[i] = primitives.convertToDouble(element(values, defaultValue, i));
+            }
+            return (T) array;
+        }
+    }
+
+    private static CharSequence element(ConfigNodeValue[] values, Object defaultValue, int index) {
+        final Object element = values == null ? defaultValue : values[index].defaultValue();
+        if (!(element instanceof CharSequence)) {
+            throw new ConfigException("Cannot convert " + element + " to a primitive array element");
+        }
+        return (CharSequence) element;
+    }
+}
@@ -17,14 +17,14 @@
 package poc.jakarta.config.internal.value.convertors;
 
 import jakarta.config.ConfigException;
-import poc.jakarta.config.value.NodeValueConvertor;
+import poc.jakarta.config.value.PrimitiveNodeValueConvertor;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Type;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
-final class PrimitiveTypeConvertor implements NodeValueConvertor {
+final class PrimitiveTypeConvertor implements PrimitiveNodeValueConvertor {
 
     private static enum PrimitiveTypes {
         BYTE(Byte.class, byte.class) {
@@ -79,8 +79,10 @@ final class PrimitiveTypeConvertor implements NodeValueConvertor {
             }
         };
 
+        private static final PrimitiveTypes[] VALUES = values();
+
         public static PrimitiveTypes forType(Class<?> type) {
-            for (PrimitiveTypes primitive : PrimitiveTypes.values()) {
+            for (PrimitiveTypes primitive : VALUES) {
                 if (primitive.supports(type)) {
                     return primitive;
                 }
@@ -134,7 +136,11 @@ final class PrimitiveTypeConvertor implements NodeValueConvertor {
         }
         final PrimitiveTypes primitiveType = PrimitiveTypes.forType(type);
         if (primitiveType != null) {
-            return (T) primitiveType.convert(value);
+            try {
+                return (T) primitiveType.convert(value);
+            } catch (NumberFormatException e) {
+                throw cannotConvert(value, type, e);
+            }
         }
 
         final Constructor constructor;
@@ -151,15 +157,68 @@ final class PrimitiveTypeConvertor implements NodeValueConvertor {
             e.printStackTrace();
         }
 
-        if (AtomicInteger.class.isAssignableFrom(type)) {
-            return (T) new AtomicInteger((Integer) PrimitiveTypes.INTEGER.convert(value));
-        }
+        try {
+            if (AtomicInteger.class.isAssignableFrom(type)) {
+                return (T) new AtomicInteger((Integer) PrimitiveTypes.INTEGER.convert(value));
+            }
 
-        if (AtomicLong.class.isAssignableFrom(type)) {
-            return (T) new AtomicLong((Long) PrimitiveTypes.LONG.convert(value));
+            if (AtomicLong.class.isAssignableFrom(type)) {
+                return (T) new AtomicLong((Long) PrimitiveTypes.LONG.convert(value));
+            }
+        } catch (NumberFormatException e) {
+            throw cannotConvert(value, type, e);
         }
 
         throw new ConfigException("Unknown primitive type" + type);
 
     }
+
+    @Override
+    public boolean isCacheable(Class<?> type, Type genericType) {
+        // Not the atomic numbers
+        return PrimitiveTypes.forType(type) != null;
+    }
+
+    @Override
+    public int convertToInt(CharSequence value) {
+        try {
+            return Integer.parseInt(nonEmpty(value, int.class), 0, value.length(), 10);
+        } catch (NumberFormatException e) {
+            throw cannotConvert(value, int.class, e);
+        }
+    }
+
+    @Override
+    public long convertToLong(CharSequence value) {
+        try {
+            return Long.parseLong(nonEmpty(value, long.class), 0, value.length(), 10);
+        } catch (NumberFormatException e) {
+            throw cannotConvert(value, long.class, e);
+        }
+    }
+
+    @Override
+    public boolean convertToBoolean(CharSequence value) {
+        return Boolean.parseBoolean(nonEmpty(value, boolean.class).toString());
+    }
+
+    @Override
+    public double convertToDouble(CharSequence value) {
+        try {
+            return Double.parseDouble(nonEmpty(value, double.class).toString());
+        } catch (NumberFormatException e) {
+            throw cannotConvert(value, double.class, e);
+        }
+    }
+
+    private static CharSequence nonEmpty(CharSequence value, Class<?> type) {
+        if (value.length() == 0) {
+            throw new ConfigException("Cannot convert empty value to " + type);
+        }
+        return value;
+    }
+
+    private static ConfigException cannotConvert(CharSequence value, Class<?> type, NumberFormatException e) {
+        return new ConfigException("Cannot convert " + value + " to " + type, e);
+    }
 }
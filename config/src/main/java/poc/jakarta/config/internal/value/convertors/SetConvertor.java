@@ -19,7 +19,9 @@ package poc.jakarta.config.internal.value.convertors;
 import poc.jakarta.config.value.NodeValueConvertors;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 final class SetConvertor extends MultipleConvertor<Set> {
@@ -31,4 +33,9 @@ final class SetConvertor extends MultipleConvertor<Set> {
     protected <T> T convertSingleton(Class<T> type, Type genericType, Object defaultValue) {
         return (T) Collections.singleton(convertors.convert(type, type, defaultValue.getClass(), defaultValue));
     }
+
+    @Override
+    protected Collection<Object> newCollection(int size) {
+        return new LinkedHashSet<>();
+    }
 }
@@ -31,4 +31,9 @@ final class StringConvertor implements NodeValueConvertor {
         CharSequence value = (CharSequence) defaultValue;
         return (T) value.toString();
     }
+
+    @Override
+    public boolean isCacheable(Class<?> type, Type genericType) {
+        return true;
+    }
 }
@@ -20,13 +20,18 @@ import poc.jakarta.config.value.NodeValueConvertor;
 import poc.jakarta.config.value.NodeValueConvertors;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public final class ValueConvertors implements NodeValueConvertors {
-    private final List<NodeValueConvertor> convertors = new LinkedList<>();
+    private final List<NodeValueConvertor> convertors = new ArrayList<>();
+    // The convertor found for the types, or empty when none, the convertors are asked only once per the types
+    private final ConcurrentMap<Key, Optional<NodeValueConvertor>> cache = new ConcurrentHashMap<>();
 
     public ValueConvertors(Collection<NodeValueConvertor> convertors) {
         this.convertors.addAll(convertors);
@@ -34,11 +39,25 @@ public final class ValueConvertors implements NodeValueConvertors {
         this.convertors.add(new CollectionConvertor(this));
         this.convertors.add(new ListConvertor(this));
         this.convertors.add(new SetConvertor(this));
-        this.convertors.add(new PrimitiveTypeConvertor());
+        final PrimitiveTypeConvertor primitiveTypeConvertor = new PrimitiveTypeConvertor();
+        this.convertors.add(new PrimitiveArrayConvertor(primitiveTypeConvertor));
+        this.convertors.add(primitiveTypeConvertor);
     }
 
     @Override
     public Optional<NodeValueConvertor> findConvertor(Class<?> type, Type genericType, Class<?> defaultType) {
+        final Key key = new Key(type, genericType, defaultType);
+        final Optional<NodeValueConvertor> convertor = cache.get(key);
+        if (convertor != null) {
+            return convertor;
+        }
+        // Not computeIfAbsent, a custom convertor might look up another convertor
+        final Optional<NodeValueConvertor> found = lookup(type, genericType, defaultType);
+        final Optional<NodeValueConvertor> previous = cache.putIfAbsent(key, found);
+        return previous == null ? found : previous;
+    }
+
+    private Optional<NodeValueConvertor> lookup(Class<?> type, Type genericType, Class<?> defaultType) {
         for (NodeValueConvertor convertor : convertors) {
             if (convertor.isConvertible(type, genericType, defaultType)) {
                 return Optional.of(convertor);
@@ -46,4 +65,36 @@ public final class ValueConvertors implements NodeValueConvertors {
         }
         return Optional.empty();
     }
+
+    private static final class Key {
+        private final Class<?> type;
+        private final Type genericType;
+        private final Class<?> defaultType;
+        private final int hash;
+
+        private Key(Class<?> type, Type genericType, Class<?> defaultType) {
+            this.type = type;
+            this.genericType = genericType;
+            this.defaultType = defaultType;
+            this.hash = (31 * type.hashCode() + Objects.hashCode(genericType)) * 31 + Objects.hashCode(defaultType);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return hash == other.hash && type == other.type && defaultType == other.defaultType
+                    && Objects.equals(genericType, other.genericType);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
@@ -20,9 +20,9 @@ import poc.jakarta.config.value.ConfigNodeValue;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -37,6 +37,10 @@ import java.util.Set;
  * data.properties().forEach(p -> {assert p.valueOrNull() != null;});
  * data.properties().forEach(p -> {assert p.properties().isEmpty();});
  * </pre></blockquote>
+ * <p>
+ *     Data is immutable, it is created once per a frozen Config Node and shared by all the loads. The key value pairs
+ *     of a Config Node with many sub-nodes are looked up by a hash.
+ * </p>
  */
 public final class Data implements NodeData {
 
@@ -46,10 +50,12 @@ public final class Data implements NodeData {
     public static class ChildKeyValue implements NodeData {
         private final String key;
         private final ConfigNodeValue value;
+        private final Optional<ConfigNodeValue> optionalValue;
 
         public ChildKeyValue(String key, ConfigNodeValue value) {
             this.key = key;
             this.value = value;
+            this.optionalValue = Optional.of(value);
         }
 
         public String key() {
@@ -57,7 +63,7 @@ public final class Data implements NodeData {
         }
 
         public Optional<ConfigNodeValue> value() {
-            return Optional.of(value);
+            return optionalValue;
         }
 
         @Override
@@ -71,15 +77,44 @@ public final class Data implements NodeData {
         }
     }
 
+    // Fewer key value pairs are scanned rather than hashed
+    private static final int HASHED_SIZE = 8;
+
     private final String key;
     private final ConfigNodeValue value;
-    private List<ChildKeyValue> properties;
-    private Set<String> subnodes = new HashSet<>();
+    private final List<ChildKeyValue> properties;
+    private final Map<String, Optional<ChildKeyValue>> hashed;
+    private final Set<String> subnodes;
+
+    /**
+     * @param key        The key of the Config Node
+     * @param value      The value of the Config Node, or {@code null}
+     * @param properties The key value pairs of the direct sub-nodes with a value
+     */
+    public Data(String key, ConfigNodeValue value, List<ChildKeyValue> properties) {
+        this(key, value, properties, Set.of());
+    }
 
-    public Data(String key, ConfigNodeValue value) {
-        properties = new LinkedList<>();
+    /**
+     * @param key        The key of the Config Node
+     * @param value      The value of the Config Node, or {@code null}
+     * @param properties The key value pairs of the direct sub-nodes with a value
+     * @param subnodes   The keys of the direct sub-nodes with their own sub-nodes
+     */
+    public Data(String key, ConfigNodeValue value, List<ChildKeyValue> properties, Set<String> subnodes) {
+        this.properties = List.copyOf(properties);
+        this.subnodes = Set.copyOf(subnodes);
         this.value = value;
         this.key = key;
+        if (properties.size() > HASHED_SIZE) {
+            final Map<String, Optional<ChildKeyValue>> hashed = new HashMap<>();
+            for (ChildKeyValue property : properties) {
+                hashed.put(property.key, Optional.of(property));
+            }
+            this.hashed = hashed;
+        } else {
+            this.hashed = null;
+        }
     }
 
     @Override
@@ -123,6 +158,9 @@ public final class Data implements NodeData {
      * @return Key-value pair of a sub-node if there is a pair with the requested key.
      */
     public Optional<ChildKeyValue> property(String key) {
+        if (hashed != null) {
+            return hashed.getOrDefault(key, Optional.empty());
+        }
         for (ChildKeyValue child : properties) {
             if (child.key.equals(key)) {
                 return Optional.of(child);
@@ -132,12 +170,13 @@ public final class Data implements NodeData {
     }
 
     /**
-     * Return {@code true} if the Config Node represented by this
-     * @param path the path towards a new Config Node
-     * @return
+     * Return {@code true} if the direct sub-node of the Config Node represented by this {@link Data} object has its
+     * own sub-nodes.
+     * @param path the key of the direct sub-node
+     * @return {@code true} when the sub-node has sub-nodes
      */
     public boolean hasSubNode(String path) {
-        return subnodes.contains(key);
+        return subnodes.contains(path);
     }
 
 }
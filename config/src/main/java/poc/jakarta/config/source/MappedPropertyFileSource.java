@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.source;
+
+import jakarta.config.ConfigException;
+import poc.jakarta.config.internal.node.ConfigNode;
+import poc.jakarta.config.internal.source.PropertyStringSource;
+import poc.jakarta.config.internal.source.Utf8ByteSequence;
+import poc.jakarta.config.internal.source.WatchableSource;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Properties file source that maps the file to the memory and parses the UTF-8 bytes in place, only the keys and
+ * the values are decoded. Meant for large generated properties files, the file is not copied to the heap.
+ */
+public final class MappedPropertyFileSource implements ConfigSource<ConfigNode>, WatchableSource {
+    private final Path file;
+
+    public MappedPropertyFileSource(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public ConfigNode load(ConfigNode parent) {
+        final MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new ConfigException("Properties file " + file + " is too large to be mapped: " + size);
+            }
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        } catch (IOException e) {
+            throw new ConfigException(e);
+        }
+        return new PropertyStringSource(new Utf8ByteSequence(buffer)).load(parent);
+    }
+
+    @Override
+    public Path file() {
+        return file;
+    }
+}
@@ -18,13 +18,17 @@ package poc.jakarta.config.source;
 
 import jakarta.config.ConfigException;
 import poc.jakarta.config.internal.node.ConfigNode;
-import poc.jakarta.config.internal.source.PropertyStringSource;
+import poc.jakarta.config.internal.node.FrozenConfigNode;
+import poc.jakarta.config.internal.source.FrozenSource;
+import poc.jakarta.config.internal.source.ParsedSourceCache;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.net.URL;
 
-public final class PropertyResourceFileSource implements ConfigSource<ConfigNode> {
+/**
+ * Properties resource source. The parsed resource is shared by the loaders in the process, it is parsed again only
+ * when the resource changes.
+ */
+public final class PropertyResourceFileSource implements ConfigSource<ConfigNode>, FrozenSource {
     private final String resourceFileName;
 
     public PropertyResourceFileSource(String resourceFileName) {
@@ -33,12 +37,19 @@ public final class PropertyResourceFileSource implements ConfigSource<ConfigNode
 
     @Override
     public ConfigNode load(ConfigNode parent) {
-        try {
-            InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resourceFileName);
-            String file = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
-            return new PropertyStringSource(file).load(parent);
-        } catch (IOException e) {
-            throw new ConfigException(e);
+        return ParsedSourceCache.load(url(), parent);
+    }
+
+    @Override
+    public FrozenConfigNode loadFrozen() {
+        return ParsedSourceCache.load(url());
+    }
+
+    private URL url() {
+        final URL url = getClass().getClassLoader().getResource(resourceFileName);
+        if (url == null) {
+            throw new ConfigException("Properties resource " + resourceFileName + " not found");
         }
+        return url;
     }
 }
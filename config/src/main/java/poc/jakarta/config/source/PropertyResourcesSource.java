@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package poc.jakarta.config.source;
+
+import jakarta.config.ConfigException;
+import poc.jakarta.config.internal.node.ConfigNode;
+import poc.jakarta.config.internal.node.ConfigPath;
+import poc.jakarta.config.internal.node.FrozenConfigNode;
+import poc.jakarta.config.internal.source.FrozenSource;
+import poc.jakarta.config.internal.source.ParsedSourceCache;
+import poc.jakarta.config.value.ConfigNodeValue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Properties source merged from all the resources of the same name on the classpath, such as the defaults shipped by
+ * each jar. The resources are read in parallel and merged by their ordinal, the value of the {@value #ORDINAL_KEY}
+ * property, {@value #DEFAULT_ORDINAL} by default. The resources with a higher ordinal take precedence, the first
+ * resource on the classpath takes precedence among the resources of the same ordinal.
+ */
+public final class PropertyResourcesSource implements ConfigSource<ConfigNode>, FrozenSource {
+    /**
+     * The key of the property defining the ordinal of the resource.
+     */
+    public static final String ORDINAL_KEY = "config_ordinal";
+    /**
+     * The ordinal of the resource not defining the {@value #ORDINAL_KEY} property.
+     */
+    public static final int DEFAULT_ORDINAL = 100;
+
+    private static final ConfigPath ORDINAL_PATH = ConfigPath.from(ORDINAL_KEY).build();
+    private static final Comparator<Resource> PRECEDENCE = Comparator.<Resource>comparingInt(r -> r.timing.ordinal)
+            .thenComparing(Comparator.<Resource>comparingInt(r -> r.index).reversed());
+
+    private final String resourceFileName;
+    private final ClassLoader classLoader;
+    private volatile List<ResourceTiming> timings = Collections.emptyList();
+
+    public PropertyResourcesSource(String resourceFileName) {
+        this(resourceFileName, PropertyResourcesSource.class.getClassLoader());
+    }
+
+    public PropertyResourcesSource(String resourceFileName, ClassLoader classLoader) {
+        this.resourceFileName = resourceFileName;
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public ConfigNode load(ConfigNode parent) {
+        final ConfigNode tree = loadFrozen().toConfigNode();
+        return parent == null ? tree : parent.merge(tree);
+    }
+
+    @Override
+    public FrozenConfigNode loadFrozen() {
+        final List<URL> urls = resources();
+        final List<CompletableFuture<Resource>> futures = new ArrayList<>(urls.size());
+        for (int i = 0; i != urls.size(); i++) {
+            final int index = i;
+            futures.add(urls.size() == 1
+                    ? CompletableFuture.completedFuture(read(index, urls.get(index)))
+                    : CompletableFuture.supplyAsync(() -> read(index, urls.get(index))));
+        }
+        final List<Resource> resources = new ArrayList<>(urls.size());
+        final List<ResourceTiming> timings = new ArrayList<>(urls.size());
+        for (CompletableFuture<Resource> future : futures) {
+            try {
+                final Resource resource = future.join();
+                resources.add(resource);
+                timings.add(resource.timing);
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException
+                        ? (RuntimeException) e.getCause()
+                        : new ConfigException(e.getCause());
+            }
+        }
+        this.timings = Collections.unmodifiableList(timings);
+
+        if (resources.isEmpty()) {
+            return ConfigNode.from(ConfigPath.from("").build()).build().freeze();
+        }
+        resources.sort(PRECEDENCE);
+        final List<FrozenConfigNode> trees = new ArrayList<>(resources.size());
+        for (Resource resource : resources) {
+            trees.add(resource.tree);
+        }
+        return FrozenConfigNode.merge(trees);
+    }
+
+    /**
+     * The time reading and parsing each resource took, in the order of the resources on the classpath, measured by
+     * the last load of this source.
+     * @return the timings of the resources, empty until this source is loaded.
+     */
+    public List<ResourceTiming> timings() {
+        return timings;
+    }
+
+    private List<URL> resources() {
+        try {
+            return Collections.list(classLoader.getResources(resourceFileName));
+        } catch (IOException e) {
+            throw new ConfigException(e);
+        }
+    }
+
+    private static Resource read(int index, URL url) {
+        final long start = System.nanoTime();
+        final FrozenConfigNode tree = ParsedSourceCache.load(url);
+        final long nanos = System.nanoTime() - start;
+        return new Resource(index, tree, new ResourceTiming(url, ordinal(url, tree), nanos));
+    }
+
+    private static int ordinal(URL url, FrozenConfigNode tree) {
+        final FrozenConfigNode node = tree.find(ORDINAL_PATH);
+        final ConfigNodeValue value = node == null ? null : node.valueOrNull();
+        if (value == null) {
+            return DEFAULT_ORDINAL;
+        }
+        try {
+            return Integer.parseInt(String.valueOf(value.defaultValue()).trim());
+        } catch (NumberFormatException e) {
+            throw new ConfigException("Invalid " + ORDINAL_KEY + " in " + url + ": " + value.defaultValue());
+        }
+    }
+
+    private static final class Resource {
+        private final int index;
+        private final FrozenConfigNode tree;
+        private final ResourceTiming timing;
+
+        private Resource(int index, FrozenConfigNode tree, ResourceTiming timing) {
+            this.index = index;
+            this.tree = tree;
+            this.timing = timing;
+        }
+    }
+
+    /**
+     * Immutable timing of a resource read by the {@link PropertyResourcesSource}.
+     */
+    public static final class ResourceTiming {
+        private final URL url;
+        private final int ordinal;
+        private final long nanos;
+
+        private ResourceTiming(URL url, int ordinal, long nanos) {
+            this.url = url;
+            this.ordinal = ordinal;
+            this.nanos = nanos;
+        }
+
+        /**
+         * The URL of the resource.
+         * @return the URL.
+         */
+        public URL url() {
+            return url;
+        }
+
+        /**
+         * The ordinal of the resource.
+         * @return the ordinal.
+         */
+        public int ordinal() {
+            return ordinal;
+        }
+
+        /**
+         * The time reading and parsing the resource took, short when the parsed resource was cached.
+         * @return the time in nanoseconds.
+         */
+        public long nanos() {
+            return nanos;
+        }
+
+        @Override
+        public String toString() {
+            return "ResourceTiming{url=" + url + ", ordinal=" + ordinal + ", nanos=" + nanos + '}';
+        }
+    }
+}
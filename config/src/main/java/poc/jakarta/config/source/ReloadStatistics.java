@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.source;
+
+import java.util.Optional;
+
+/**
+ * Immutable statistics of the reloads of the watched sources.
+ */
+public final class ReloadStatistics {
+    /**
+     * No reload happened yet.
+     */
+    public static final ReloadStatistics NONE = new ReloadStatistics(0, 0, 0, -1, 0, 0, null);
+
+    private final long reloads;
+    private final long lastReloadNanos;
+    private final long totalReloadNanos;
+    private final long lastReloadAllocatedBytes;
+    private final int lastChangedPaths;
+    private final long failures;
+    private final RuntimeException lastFailure;
+
+    private ReloadStatistics(long reloads, long lastReloadNanos, long totalReloadNanos, long lastReloadAllocatedBytes,
+                             int lastChangedPaths, long failures, RuntimeException lastFailure) {
+        this.reloads = reloads;
+        this.lastReloadNanos = lastReloadNanos;
+        this.totalReloadNanos = totalReloadNanos;
+        this.lastReloadAllocatedBytes = lastReloadAllocatedBytes;
+        this.lastChangedPaths = lastChangedPaths;
+        this.failures = failures;
+        this.lastFailure = lastFailure;
+    }
+
+    /**
+     * The statistics with one more successful reload.
+     * @param nanos the time the reload took.
+     * @param allocatedBytes the bytes allocated by the reload, {@code -1} when not measured.
+     * @param changedPaths the number of the changed values.
+     * @return the new statistics.
+     */
+    public ReloadStatistics reloaded(long nanos, long allocatedBytes, int changedPaths) {
+        return new ReloadStatistics(reloads + 1, nanos, totalReloadNanos + nanos, allocatedBytes, changedPaths,
+                failures, lastFailure);
+    }
+
+    /**
+     * The statistics with one more failed reload, the previous Config Tree is kept.
+     * @param failure the cause.
+     * @return the new statistics.
+     */
+    public ReloadStatistics failed(RuntimeException failure) {
+        return new ReloadStatistics(reloads, lastReloadNanos, totalReloadNanos, lastReloadAllocatedBytes,
+                lastChangedPaths, failures + 1, failure);
+    }
+
+    /**
+     * The number of the successful reloads.
+     * @return the number of the reloads.
+     */
+    public long reloads() {
+        return reloads;
+    }
+
+    /**
+     * The time the last successful reload took, from reading the changed sources to the new Config Tree being ready,
+     * the publishing of the new Config Tree and the notification of the listeners are not included.
+     * @return the time in nanoseconds.
+     */
+    public long lastReloadNanos() {
+        return lastReloadNanos;
+    }
+
+    /**
+     * The time all the successful reloads took.
+     * @return the time in nanoseconds.
+     */
+    public long totalReloadNanos() {
+        return totalReloadNanos;
+    }
+
+    /**
+     * The bytes allocated by the last successful reload.
+     * @return the allocated bytes, or {@code -1} when the JVM does not measure the allocations.
+     */
+    public long lastReloadAllocatedBytes() {
+        return lastReloadAllocatedBytes;
+    }
+
+    /**
+     * The number of the values changed by the last successful reload.
+     * @return the number of the changed values.
+     */
+    public int lastChangedPaths() {
+        return lastChangedPaths;
+    }
+
+    /**
+     * The number of the failed reloads.
+     * @return the number of the failures.
+     */
+    public long failures() {
+        return failures;
+    }
+
+    /**
+     * The cause of the last failed reload.
+     * @return the cause, or empty when no reload failed.
+     */
+    public Optional<RuntimeException> lastFailure() {
+        return Optional.ofNullable(lastFailure);
+    }
+
+    @Override
+    public String toString() {
+        return "ReloadStatistics{reloads=" + reloads
+                + ", lastReloadNanos=" + lastReloadNanos
+                + ", totalReloadNanos=" + totalReloadNanos
+                + ", lastReloadAllocatedBytes=" + lastReloadAllocatedBytes
+                + ", lastChangedPaths=" + lastChangedPaths
+                + ", failures=" + failures + '}';
+    }
+}
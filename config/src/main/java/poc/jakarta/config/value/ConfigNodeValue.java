@@ -40,8 +40,17 @@ public interface ConfigNodeValue {
         return convertors.convert(type, genericType, this);
     }
 
+    /**
+     * Get the actual value of this Config Node converted to a user type by the convertor. The value might be cached
+     * when the convertor declares it {@link NodeValueConvertor#isCacheable(Class, Type) cacheable}.
+     * @param type The user requested {@link Class}
+     * @param genericType The user requested {@link java.lang.reflect.ParameterizedType}
+     * @param convertor The {@link NodeValueConvertor} found for the user type
+     * @param <T> Expected user type
+     * @return The converted value
+     */
     default <T> T get(Class<T> type, Type genericType, NodeValueConvertor convertor) {
-        return convertor.convert(type, genericType, this);
+        return convertor.convert(type, genericType, defaultValue());
     }
 
     /**
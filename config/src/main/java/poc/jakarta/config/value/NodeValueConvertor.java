@@ -42,4 +42,16 @@ public interface NodeValueConvertor {
      */
     <T> T convert(Class<T> type, Type genericType, Object defaultValue);
 
+    /**
+     * Defines whether the converted values can be cached by the {@link ConfigNodeValue} and returned by the later
+     * conversions to the same user requested type. Only the values of the immutable types are cacheable.
+     * @param type The user requested {@link Class}
+     * @param genericType The user requested {@link java.lang.reflect.ParameterizedType}
+     * @return {@code true} if the values converted to the user requested type are immutable. The default is
+     * {@code false}.
+     */
+    default boolean isCacheable(Class<?> type, Type genericType) {
+        return false;
+    }
+
 }
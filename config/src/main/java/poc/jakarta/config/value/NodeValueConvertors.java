@@ -47,7 +47,10 @@ public interface NodeValueConvertors {
      * @return The converted value of {@link ConfigNodeValue} converted to a user defined type.
      */
     default <T> T convert(Class<T> type, Type genericType, ConfigNodeValue value) {
-       return convert(type, genericType, value.defaultType(), value.defaultValue());
+        Optional<NodeValueConvertor> convertor = findConvertor(type, genericType, value.defaultType());
+        return value.get(type, genericType, convertor
+                .orElseThrow(() -> new ConfigException(
+                        "Unable to convert type " + type + " generic type " + genericType + " from " + value.defaultType())));
     }
 
     /**
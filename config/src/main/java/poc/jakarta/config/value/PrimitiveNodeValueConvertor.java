@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.value;
+
+/**
+ * A {@link NodeValueConvertor} capable of converting the text values to the primitive types without boxing. The
+ * {@code int}, {@code long}, {@code boolean}, and {@code double} fields are injected by these methods rather than by
+ * {@link #convert(Class, java.lang.reflect.Type, Object)}.
+ */
+public interface PrimitiveNodeValueConvertor extends NodeValueConvertor {
+    /**
+     * Converts the value to {@code int}
+     * @param value The text value of {@link ConfigNodeValue#defaultValue()}
+     * @return The converted value
+     */
+    int convertToInt(CharSequence value);
+
+    /**
+     * Converts the value to {@code long}
+     * @param value The text value of {@link ConfigNodeValue#defaultValue()}
+     * @return The converted value
+     */
+    long convertToLong(CharSequence value);
+
+    /**
+     * Converts the value to {@code boolean}
+     * @param value The text value of {@link ConfigNodeValue#defaultValue()}
+     * @return The converted value
+     */
+    boolean convertToBoolean(CharSequence value);
+
+    /**
+     * Converts the value to {@code double}
+     * @param value The text value of {@link ConfigNodeValue#defaultValue()}
+     * @return The converted value
+     */
+    double convertToDouble(CharSequence value);
+}
@@ -23,6 +23,7 @@ module poc.jakarta.config.test {
     exports poc.jakarta.config.test.internal.node to org.junit.platform.commons;
     exports poc.jakarta.config.test.internal.source to org.junit.platform.commons;
     exports poc.jakarta.config.test.internal.test to org.junit.platform.commons;
+    exports poc.jakarta.config.test.internal.value to org.junit.platform.commons;
 
     opens poc.jakarta.config.test.internal.loader.weld
             to weld.core.impl, poc.jakarta.config;
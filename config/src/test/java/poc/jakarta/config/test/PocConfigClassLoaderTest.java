@@ -2,13 +2,18 @@ package poc.jakarta.config.test;
 
 import jakarta.config.Configuration;
 import jakarta.config.Loader;
+import jakarta.config.TypeToken;
 import poc.jakarta.config.PocConfigLoader;
+import poc.jakarta.config.internal.source.PropertyStringSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class PocConfigClassLoaderTest {
     @Configuration
@@ -60,6 +65,20 @@ public class PocConfigClassLoaderTest {
         Assertions.assertEquals("value33", property3Iterator.next());
     }
 
+    @Test
+    public void testRepeatedLoad() {
+        PocConfigLoader loader = PocConfigLoader.builder().optionalFields(true).build();
+        JakartaConfigProperties first = loader.load(JakartaConfigProperties.class);
+        JakartaConfigProperties second = loader.load(JakartaConfigProperties.class);
+
+        Assertions.assertNotSame(first, second);
+        Assertions.assertNotSame(first.property2, second.property2);
+        Assertions.assertNotSame(first.property3, second.property3);
+        Assertions.assertEquals(first.property1, second.property1);
+        Assertions.assertEquals(first.property2.sub1, second.property2.sub1);
+        Assertions.assertEquals(first.property3, second.property3);
+    }
+
     @Configuration
     static class SomeSub {
         String sub1;
@@ -76,6 +95,22 @@ public class PocConfigClassLoaderTest {
         Assertions.assertEquals("value22", properties.sub2);
     }
 
+    @Test
+    public void testSourcesPrecedence() {
+        for (boolean parallel : new boolean[] {true, false}) {
+            Loader loader = PocConfigLoader.builder()
+                    .source(new PropertyStringSource("property2.sub2=value23\nproperty6=value6"))
+                    .source(new PropertyStringSource("property2.sub2=value24"))
+                    .parallelSources(parallel)
+                    .path("property2")
+                    .build();
+            SomeSub properties = loader.load(SomeSub.class);
+
+            Assertions.assertEquals("value21", properties.sub1);
+            Assertions.assertEquals("value24", properties.sub2);
+        }
+    }
+
     @Configuration
     static class Primitives {
         int int__;
@@ -100,4 +135,49 @@ public class PocConfigClassLoaderTest {
         String loaded = loader.loadSingle(String.class);
         Assertions.assertEquals("value21", loaded);
     }
+
+    @Configuration(path = "tables")
+    static class Tables {
+        int[] ints;
+        long[] longs;
+        double[] doubles;
+        int[] single;
+        Set<Integer> set;
+    }
+
+    @Test
+    public void testPrimitiveArrays() {
+        Loader loader = PocConfigLoader.builder()
+                .source(new PropertyStringSource("tables.ints=1, 2,3\ntables.longs=10000000000,-1\n"
+                        + "tables.doubles=0.5,1.5\ntables.single=7\ntables.set=3,1,3"))
+                .build();
+        Tables tables = loader.load(Tables.class);
+
+        Assertions.assertArrayEquals(new int[] {1, 2, 3}, tables.ints);
+        Assertions.assertArrayEquals(new long[] {10000000000L, -1L}, tables.longs);
+        Assertions.assertArrayEquals(new double[] {0.5, 1.5}, tables.doubles);
+        Assertions.assertArrayEquals(new int[] {7}, tables.single);
+        Assertions.assertEquals(Set.of(1, 3), tables.set);
+    }
+
+    @Test
+    public void testLoadAll() {
+        for (boolean parallel : new boolean[] {true, false}) {
+            PocConfigLoader loader = PocConfigLoader.builder()
+                    .source(new PropertyStringSource("tables.ints=1,2\ntables.single=3"))
+                    .optionalFields(true)
+                    .parallelLoadAll(parallel)
+                    .build();
+            Map<Class<?>, Object> loaded = loader.loadAll(List.of(Tables.class, JakartaConfigProperties.class));
+
+            Assertions.assertEquals(List.of(Tables.class, JakartaConfigProperties.class), List.copyOf(loaded.keySet()));
+            Assertions.assertArrayEquals(new int[] {1, 2}, ((Tables) loaded.get(Tables.class)).ints);
+            Assertions.assertEquals("value1", ((JakartaConfigProperties) loaded.get(JakartaConfigProperties.class)).property1);
+
+            TypeToken<Tables> token = new TypeToken<>() {
+            };
+            Map<TypeToken<?>, Object> loadedTypes = loader.loadAllTypes(List.of(token));
+            Assertions.assertArrayEquals(new int[] {3}, ((Tables) loadedTypes.get(token)).single);
+        }
+    }
 }
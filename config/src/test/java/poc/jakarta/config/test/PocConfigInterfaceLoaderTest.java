@@ -4,9 +4,11 @@ import jakarta.config.ConfigException;
 import jakarta.config.Configuration;
 import jakarta.config.Loader;
 import poc.jakarta.config.PocConfigLoader;
+import poc.jakarta.config.internal.source.PropertyStringSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -91,4 +93,58 @@ public class PocConfigInterfaceLoaderTest {
         Assertions.assertEquals(4.5f, properties.float__());
         Assertions.assertEquals('A', properties.char__());
     }
+
+    @Test
+    public void testGeneratedInterfaces() {
+        PocConfigLoader loader = PocConfigLoader.builder().generatedInterfaces(true).build();
+        JakartaConfigProperties properties = loader.load(JakartaConfigProperties.class);
+
+        Assertions.assertFalse(Proxy.isProxyClass(properties.getClass()));
+        Assertions.assertFalse(Proxy.isProxyClass(properties.property2().getClass()));
+        Assertions.assertEquals("value1", properties.property1());
+        Assertions.assertEquals("value21", properties.property2().sub1());
+        Assertions.assertEquals("value22", properties.property2().sub2());
+        Assertions.assertThrows(ConfigException.class, () -> properties.property2().sub());
+        Assertions.assertEquals(3, properties.property3().size());
+        Assertions.assertEquals(JakartaConfigProperties.class.getName(), properties.toString());
+
+        Primitives primitives = PocConfigLoader.builder().generatedInterfaces(true).path("property4").build()
+                .load(Primitives.class);
+        Assertions.assertFalse(Proxy.isProxyClass(primitives.getClass()));
+        Assertions.assertEquals(100, primitives.int__());
+        Assertions.assertEquals(4.5f, primitives.float__());
+        Assertions.assertEquals('A', primitives.char__());
+    }
+
+    @Test
+    public void testLazyInterfaces() {
+        // Converted when loaded
+        Assertions.assertThrows(ConfigException.class, () -> PocConfigLoader.builder()
+                .source(new PropertyStringSource("property4.int__=NaN"))
+                .generatedInterfaces(true)
+                .path("property4")
+                .build()
+                .load(Primitives.class));
+
+        Primitives primitives = Assertions.assertDoesNotThrow(() -> PocConfigLoader.builder()
+                .source(new PropertyStringSource("property4.int__=NaN"))
+                .lazyInterfaces(true)
+                .generatedInterfaces(true)
+                .path("property4")
+                .build()
+                .load(Primitives.class));
+        Assertions.assertTrue(Proxy.isProxyClass(primitives.getClass()));
+        Assertions.assertEquals(4.5f, primitives.float__());
+        Assertions.assertEquals('A', primitives.char__());
+        // Converted when called
+        Assertions.assertThrows(ConfigException.class, primitives::int__);
+
+        JakartaConfigProperties properties = PocConfigLoader.builder().lazyInterfaces(true).build()
+                .load(JakartaConfigProperties.class);
+        Assertions.assertEquals("value1", properties.property1());
+        Assertions.assertEquals("value21", properties.property2().sub1());
+        Assertions.assertSame(properties.property3(), properties.property3());
+        Assertions.assertEquals(3, properties.property3().size());
+        Assertions.assertThrows(ConfigException.class, () -> properties.property2().sub());
+    }
 }
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.test;
+
+import jakarta.config.Configuration;
+import poc.jakarta.config.ConfigChangeListener;
+import poc.jakarta.config.PocConfigLoader;
+import poc.jakarta.config.internal.node.ConfigNode;
+import poc.jakarta.config.internal.source.PropertyFileSource;
+import poc.jakarta.config.internal.source.Source;
+import poc.jakarta.config.internal.source.WatchableSource;
+import poc.jakarta.config.source.ReloadStatistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+public class PocConfigReloadTest {
+    @Configuration
+    static class Reloaded {
+        String sub1;
+        String sub2;
+    }
+
+    @Configuration(path = "live")
+    public static interface Live {
+        String name();
+        int number();
+    }
+
+    @Test
+    public void testReload() throws IOException, InterruptedException {
+        Path file = Files.createTempFile("reload", ".properties");
+        file.toFile().deleteOnExit();
+        Files.writeString(file, "property2.sub1=reload1\n", StandardCharsets.UTF_8);
+
+        try (PocConfigLoader loader = PocConfigLoader.builder()
+                .source(new PropertyFileSource(file.toFile()))
+                .watchSources(Duration.ofMillis(20))
+                .path("property2")
+                .build()) {
+            Reloaded reloaded = loader.load(Reloaded.class);
+            Assertions.assertEquals("reload1", reloaded.sub1);
+            Assertions.assertEquals("value22", reloaded.sub2);
+
+            Files.writeString(file, "property2.sub1=reload2\nproperty2.sub2=reload22\n", StandardCharsets.UTF_8);
+            awaitTrue(() -> "reload2".equals(loader.load(Reloaded.class).sub1));
+
+            reloaded = loader.load(Reloaded.class);
+            Assertions.assertEquals("reload22", reloaded.sub2);
+            ReloadStatistics statistics = loader.reloadStatistics();
+            Assertions.assertTrue(statistics.reloads() >= 1);
+            Assertions.assertTrue(statistics.lastReloadNanos() > 0);
+            Assertions.assertEquals(0, statistics.failures());
+        }
+    }
+
+    @Test
+    public void testFailedReload() throws IOException, InterruptedException {
+        Path file = Files.createTempFile("reload", ".properties");
+        file.toFile().deleteOnExit();
+        Files.writeString(file, "property2.sub1=reload1\n", StandardCharsets.UTF_8);
+
+        try (PocConfigLoader loader = PocConfigLoader.builder()
+                .source(new PropertyFileSource(file.toFile()))
+                .watchSources(Duration.ofMillis(20))
+                .path("property2")
+                .build()) {
+            Assertions.assertEquals("reload1", loader.load(Reloaded.class).sub1);
+
+            Files.writeString(file, "property2.sub1\n", StandardCharsets.UTF_8);
+            awaitTrue(() -> loader.reloadStatistics().failures() == 1);
+
+            Assertions.assertEquals("reload1", loader.load(Reloaded.class).sub1);
+            Assertions.assertTrue(loader.reloadStatistics().lastFailure().isPresent());
+        }
+    }
+
+    @Test
+    public void testPartiallyFailedReload() throws IOException, InterruptedException {
+        Path first = Files.createTempFile("reload", ".properties");
+        Path second = Files.createTempFile("reload", ".properties");
+        first.toFile().deleteOnExit();
+        second.toFile().deleteOnExit();
+        Files.writeString(first, "property2.sub1=reload1\n", StandardCharsets.UTF_8);
+        Files.writeString(second, "property2.sub2=reload2\n", StandardCharsets.UTF_8);
+
+        try (PocConfigLoader loader = PocConfigLoader.builder()
+                .source(new PropertyFileSource(first.toFile()))
+                .source(new PropertyFileSource(second.toFile()))
+                .watchSources(Duration.ofMillis(20))
+                .path("property2")
+                .build()) {
+            Assertions.assertEquals("reload2", loader.load(Reloaded.class).sub2);
+
+            // Both files change before the next poll, the valid one is applied
+            Files.writeString(second, "property2.sub2=reload22\n", StandardCharsets.UTF_8);
+            Files.writeString(first, "property2.sub1\n", StandardCharsets.UTF_8);
+            awaitTrue(() -> "reload22".equals(loader.load(Reloaded.class).sub2));
+            awaitTrue(() -> loader.reloadStatistics().failures() >= 1);
+            Assertions.assertEquals("reload1", loader.load(Reloaded.class).sub1);
+        }
+    }
+
+    @Test
+    public void testChangedWhileLoaded() throws IOException, InterruptedException {
+        Path file = Files.createTempFile("reload", ".properties");
+        file.toFile().deleteOnExit();
+        Files.writeString(file, "property2.sub1=reload1\n", StandardCharsets.UTF_8);
+
+        try (PocConfigLoader loader = PocConfigLoader.builder()
+                .source(new ChangedWhileLoadedSource(file, "property2.sub1=reload2\nproperty2.sub2=reload22\n"))
+                .watchSources(Duration.ofMillis(20))
+                .path("property2")
+                .build()) {
+            // The file changed after it was read, the change is reloaded
+            awaitTrue(() -> "reload2".equals(loader.load(Reloaded.class).sub1));
+            Assertions.assertEquals("reload22", loader.load(Reloaded.class).sub2);
+        }
+    }
+
+    @Test
+    public void testChangeListener() throws IOException, InterruptedException {
+        Path file = Files.createTempFile("reload", ".properties");
+        file.toFile().deleteOnExit();
+        Files.writeString(file, "listened.key1=value1\nlistened.key2=value2\nother.key=value3\n", StandardCharsets.UTF_8);
+
+        List<List<String>> notified = new CopyOnWriteArrayList<>();
+        List<String> all = new CopyOnWriteArrayList<>();
+        try (PocConfigLoader loader = PocConfigLoader.builder()
+                .source(new PropertyFileSource(file.toFile()))
+                .watchSources(Duration.ofMillis(20))
+                .listenerExecutor(Runnable::run)
+                .build()) {
+            loader.onChange("listened", notified::add);
+            ConfigChangeListener.Registration registration = loader.onChange("", all::addAll);
+
+            Files.writeString(file, "listened.key1=changed1\nlistened.key3=value4\nother.key=changed3\n",
+                    StandardCharsets.UTF_8);
+            awaitTrue(() -> all.containsAll(List.of("listened.key1", "listened.key2", "listened.key3", "other.key")));
+
+            Set<String> listened = new HashSet<>();
+            notified.forEach(listened::addAll);
+            Assertions.assertEquals(Set.of("listened.key1", "listened.key2", "listened.key3"), listened);
+
+            registration.close();
+            all.clear();
+            Files.writeString(file, "listened.key1=changed2\n", StandardCharsets.UTF_8);
+            awaitTrue(() -> notified.stream().anyMatch(paths -> paths.contains("listened.key3")
+                    && paths.size() == 2));
+            Assertions.assertTrue(all.isEmpty());
+        }
+    }
+
+    @Test
+    public void testLiveInterfaces() throws IOException, InterruptedException {
+        testLiveInterface(true);
+        testLiveInterface(false);
+    }
+
+    private static void testLiveInterface(boolean generate) throws IOException, InterruptedException {
+        Path file = Files.createTempFile("reload", ".properties");
+        file.toFile().deleteOnExit();
+        Files.writeString(file, "live.name=name1\nlive.number=1\n", StandardCharsets.UTF_8);
+
+        try (PocConfigLoader loader = PocConfigLoader.builder()
+                .source(new PropertyFileSource(file.toFile()))
+                .watchSources(Duration.ofMillis(20))
+                .liveInterfaces(true)
+                .generatedInterfaces(generate)
+                .build()) {
+            Live live = loader.load(Live.class);
+            Assertions.assertEquals(!generate, Proxy.isProxyClass(live.getClass()));
+            Assertions.assertEquals("name1", live.name());
+            Assertions.assertEquals(1, live.number());
+
+            Files.writeString(file, "live.name=name2\nlive.number=2\n", StandardCharsets.UTF_8);
+            awaitTrue(() -> live.number() == 2);
+            Assertions.assertEquals("name2", live.name());
+
+            // Not bound anymore, the previous values are kept
+            Files.writeString(file, "live.name=name3\nlive.number=three\n", StandardCharsets.UTF_8);
+            awaitTrue(() -> loader.reloadStatistics().reloads() >= 2);
+            Assertions.assertEquals("name2", live.name());
+        }
+    }
+
+    @Test
+    public void testDerivedLoader() throws IOException, InterruptedException {
+        Path file = Files.createTempFile("reload", ".properties");
+        file.toFile().deleteOnExit();
+        Files.writeString(file, "property2.sub1=reload1\n", StandardCharsets.UTF_8);
+
+        try (PocConfigLoader loader = PocConfigLoader.builder()
+                .source(new PropertyFileSource(file.toFile()))
+                .watchSources(Duration.ofMillis(20))
+                .build()) {
+            PocConfigLoader derived = (PocConfigLoader) loader.path("property2");
+            Assertions.assertEquals("reload1", derived.load(Reloaded.class).sub1);
+
+            // The derived loader shares the Config Tree, it is reloaded once for both loaders
+            Files.writeString(file, "property2.sub1=reload2\n", StandardCharsets.UTF_8);
+            awaitTrue(() -> "reload2".equals(derived.load(Reloaded.class).sub1));
+            Assertions.assertTrue(derived.reloadStatistics().reloads() >= 1);
+            Assertions.assertEquals("reload2", loader.path("property2").load(Reloaded.class).sub1);
+        }
+    }
+
+    private static final class ChangedWhileLoadedSource implements Source, WatchableSource {
+        private final PropertyFileSource source;
+        private final Path file;
+        private final String changed;
+        private boolean loaded;
+
+        private ChangedWhileLoadedSource(Path file, String changed) {
+            this.source = new PropertyFileSource(file.toFile());
+            this.file = file;
+            this.changed = changed;
+        }
+
+        @Override
+        public synchronized ConfigNode load(ConfigNode parent) {
+            final ConfigNode node = source.load(parent);
+            if (!loaded) {
+                loaded = true;
+                try {
+                    Files.writeString(file, changed, StandardCharsets.UTF_8);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return node;
+        }
+
+        @Override
+        public Path file() {
+            return file;
+        }
+    }
+
+    static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "Timed out");
+            Thread.sleep(10);
+        }
+    }
+}
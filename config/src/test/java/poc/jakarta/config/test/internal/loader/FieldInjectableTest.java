@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.test.internal.loader;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+public class FieldInjectableTest {
+    static class Primitives {
+        int intValue;
+        long longValue;
+        boolean booleanValue;
+        double doubleValue;
+        String stringValue;
+    }
+
+    @Test
+    public void testPrimitiveSetters() throws Exception {
+        Primitives primitives = new Primitives();
+        invoke(injectable("intValue"), "injectInt", int.class, primitives, 42);
+        invoke(injectable("longValue"), "injectLong", long.class, primitives, 42L);
+        invoke(injectable("booleanValue"), "injectBoolean", boolean.class, primitives, true);
+        invoke(injectable("doubleValue"), "injectDouble", double.class, primitives, 4.2);
+
+        Assertions.assertEquals(42, primitives.intValue);
+        Assertions.assertEquals(42L, primitives.longValue);
+        Assertions.assertTrue(primitives.booleanValue);
+        Assertions.assertEquals(4.2, primitives.doubleValue);
+    }
+
+    @Test
+    public void testObjectSetter() throws Exception {
+        Primitives primitives = new Primitives();
+        invoke(injectable("stringValue"), "inject", Object.class, primitives, "value");
+        invoke(injectable("intValue"), "inject", Object.class, primitives, 42);
+
+        Assertions.assertEquals("value", primitives.stringValue);
+        Assertions.assertEquals(42, primitives.intValue);
+    }
+
+    private static Object injectable(String fieldName) throws Exception {
+        Class<?> clazz = Class.forName("poc.jakarta.config.internal.loader.FieldInjectable");
+        Constructor<?> constructor = clazz.getDeclaredConstructor(Field.class);
+        constructor.setAccessible(true);
+        return constructor.newInstance(Primitives.class.getDeclaredField(fieldName));
+    }
+
+    private static void invoke(Object injectable, String name, Class<?> valueType, Object instance, Object value)
+            throws Exception {
+        Method method = injectable.getClass().getDeclaredMethod(name, Object.class, valueType);
+        method.setAccessible(true);
+        method.invoke(injectable, instance, value);
+    }
+}
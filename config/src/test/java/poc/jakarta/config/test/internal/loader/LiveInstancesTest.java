@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package poc.jakarta.config.test.internal.loader;
+
+import poc.jakarta.config.internal.loader.LiveInstances;
+import poc.jakarta.config.internal.node.ConfigPath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class LiveInstancesTest {
+    public interface Named {
+        String name();
+    }
+
+    @Test
+    public void testOlderGenerationIgnored() {
+        for (boolean generate : new boolean[] {true, false}) {
+            AtomicReference<LiveInstances.Loaded> next = new AtomicReference<>();
+            LiveInstances liveInstances = new LiveInstances(generate);
+            LiveInstances.Live<Named> live = liveInstances.create(Named.class, Named.class,
+                    ConfigPath.from("named").build(), new LiveInstances.Loaded(named("first"), 1),
+                    (iface, type) -> next.get());
+
+            // Loaded from an older Config Tree by a slower thread
+            next.set(new LiveInstances.Loaded(named("stale"), 0));
+            live.refresh();
+            Assertions.assertEquals("first", live.instance().name());
+
+            next.set(new LiveInstances.Loaded(named("second"), 2));
+            liveInstances.refresh(List.of(ConfigPath.from("named.name").build()));
+            Assertions.assertEquals("second", live.instance().name());
+
+            next.set(new LiveInstances.Loaded(named("stale"), 1));
+            live.refresh();
+            Assertions.assertEquals("second", live.instance().name());
+        }
+    }
+
+    @Test
+    public void testLiveInstanceShared() {
+        for (boolean generate : new boolean[] {true, false}) {
+            AtomicReference<LiveInstances.Loaded> next = new AtomicReference<>();
+            LiveInstances liveInstances = new LiveInstances(generate);
+            ConfigPath path = ConfigPath.from("named").build();
+            LiveInstances.Live<Named> live = liveInstances.create(Named.class, Named.class, path,
+                    new LiveInstances.Loaded(named("first"), 1), (iface, type) -> next.get());
+
+            // Loaded again from the newer Config Tree, the live instance in use is shared and updated
+            LiveInstances.Live<Named> again = liveInstances.create(Named.class, Named.class, path,
+                    new LiveInstances.Loaded(named("second"), 2), (iface, type) -> next.get());
+            Assertions.assertSame(live.instance(), again.instance());
+            Assertions.assertEquals("second", live.instance().name());
+
+            LiveInstances.Live<Named> other = liveInstances.create(Named.class, Named.class,
+                    ConfigPath.from("other").build(), new LiveInstances.Loaded(named("other"), 2),
+                    (iface, type) -> next.get());
+            Assertions.assertNotSame(live.instance(), other.instance());
+        }
+    }
+
+    @Test
+    public void testFailedRefreshKeepsInstance() {
+        LiveInstances liveInstances = new LiveInstances(true);
+        LiveInstances.Live<Named> live = liveInstances.create(Named.class, Named.class,
+                ConfigPath.from("named").build(), new LiveInstances.Loaded(named("first"), 1),
+                (iface, type) -> {
+                    throw new IllegalStateException("Does not bind");
+                });
+
+        liveInstances.refresh(List.of(ConfigPath.from("named.name").build()));
+        Assertions.assertEquals("first", live.instance().name());
+    }
+
+    private static Named named(String name) {
+        return () -> name;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.test.internal.node;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import poc.jakarta.config.internal.node.ConfigPath;
+import poc.jakarta.config.internal.node.ConfigPathCache;
+
+public class ConfigPathCacheTest {
+    @Test
+    public void testPath() {
+        final ConfigPath path = ConfigPathCache.path("cache.test.path");
+        final long hits = ConfigPathCache.hits();
+        Assertions.assertSame(path, ConfigPathCache.path("cache.test.path"));
+        Assertions.assertEquals(hits + 1, ConfigPathCache.hits());
+        Assertions.assertEquals(ConfigPath.from("cache.test.path").build(), path);
+        Assertions.assertEquals(ConfigPath.from("").build(), ConfigPathCache.path(null));
+    }
+
+    @Test
+    public void testChild() {
+        final ConfigPath parent = ConfigPathCache.path("cache.test");
+        final long misses = ConfigPathCache.misses();
+        final ConfigPath child = ConfigPathCache.child(parent, "child");
+        Assertions.assertEquals(misses + 1, ConfigPathCache.misses());
+        Assertions.assertSame(child, ConfigPathCache.child(ConfigPath.from("cache.test").build(), "child"));
+        Assertions.assertEquals(ConfigPath.from("cache.test.child").build(), child);
+    }
+}
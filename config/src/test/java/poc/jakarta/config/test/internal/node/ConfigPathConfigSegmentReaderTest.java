@@ -4,8 +4,10 @@ import poc.jakarta.config.internal.node.ConfigPath;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class ConfigPathConfigSegmentReaderTest {
 
@@ -46,6 +48,49 @@ public class ConfigPathConfigSegmentReaderTest {
         Assertions.assertEquals("sub2", segments.get(1).getName());
     }
 
+    @Test
+    public void testSegmentsWithoutComments() {
+        Assertions.assertEquals(List.of("a", "", "b"), names(ConfigSegmentParserparse("a..b")));
+        Assertions.assertEquals(List.of("", "a"), names(ConfigSegmentParserparse(".a")));
+        Assertions.assertEquals(List.of("a"), names(ConfigSegmentParserparse("a.")));
+        Assertions.assertEquals(List.of("a*b", "c"), names(ConfigSegmentParserparse(" a*b . c ")));
+        Assertions.assertEquals(List.of("a", "b"), names(ConfigPath.from("a").append("b").build().getSegments()));
+    }
+
+    private static List<String> names(List<ConfigPath.ConfigPathSegment> segments) {
+        return segments.stream().map(ConfigPath.ConfigPathSegment::getName).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testInternedSegments() {
+        List<ConfigPath.ConfigPathSegment> first = ConfigSegmentParserparse("first.second");
+        List<ConfigPath.ConfigPathSegment> second = ConfigSegmentParserparse("second /* comment */.first");
+        Assertions.assertSame(first.get(0), second.get(1));
+        Assertions.assertSame(first.get(1), second.get(0));
+        Assertions.assertSame(first.get(0), ConfigPath.ConfigPathSegment.of(" first "));
+
+        ConfigPath.ConfigPathSegment notInterned = new ConfigPath.ConfigPathSegment("first");
+        Assertions.assertEquals(first.get(0), notInterned);
+        Assertions.assertEquals(first.get(0).hashCode(), notInterned.hashCode());
+        Assertions.assertEquals(0, first.get(0).compareTo(notInterned));
+        Assertions.assertNotEquals(first.get(0), first.get(1));
+    }
+
+    @Test
+    public void testInternedSegmentReleased() throws InterruptedException {
+        String name = "released" + System.nanoTime();
+        WeakReference<ConfigPath.ConfigPathSegment> released = new WeakReference<>(ConfigPath.ConfigPathSegment.of(name));
+        for (int i = 0; i != 100 && released.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assertions.assertNull(released.get());
+
+        ConfigPath.ConfigPathSegment segment = ConfigPath.ConfigPathSegment.of(name);
+        Assertions.assertSame(segment, ConfigPath.ConfigPathSegment.of(name));
+        Assertions.assertEquals(segment, new ConfigPath.ConfigPathSegment(name));
+    }
+
     public List<ConfigPath.ConfigPathSegment> ConfigSegmentParserparse(String segment) {
         try {
             Class clazz = Class.forName("poc.jakarta.config.internal.node.ConfigSegmentParser");
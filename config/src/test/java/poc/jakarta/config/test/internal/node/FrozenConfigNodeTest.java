@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.test.internal.node;
+
+import poc.jakarta.config.internal.node.ConfigNode;
+import poc.jakarta.config.internal.node.ConfigNodeBuilder;
+import poc.jakarta.config.internal.node.ConfigPath;
+import poc.jakarta.config.internal.node.FrozenConfigNode;
+import poc.jakarta.config.internal.source.PropertyStringSource;
+import poc.jakarta.config.internal.value.StringNodeValue;
+import poc.jakarta.config.node.Data;
+import poc.jakarta.config.value.ConfigNodeValue;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class FrozenConfigNodeTest {
+    private static final String PROPERTIES = "key1.k1=value1\nkey1.k2=value2\nkey2=value3\nkey2.k1=value4";
+
+    @Test
+    public void testFind() {
+        FrozenConfigNode root = new PropertyStringSource(PROPERTIES).load(null).freeze();
+
+        Assertions.assertEquals(2, root.size());
+        Assertions.assertEquals("key1", root.child(0).key());
+        Assertions.assertEquals("key2", root.child(1).key());
+
+        FrozenConfigNode node = root.find(ConfigPath.from("key1.k2").build());
+        Assertions.assertNotNull(node);
+        Assertions.assertEquals("value2", node.valueOrNull().defaultValue());
+        Assertions.assertTrue(node.isLeaf());
+        Assertions.assertFalse(node.isSubNode());
+
+        node = root.find(ConfigPath.from("key2").build());
+        Assertions.assertTrue(node.isLeaf());
+        Assertions.assertTrue(node.isSubNode());
+        Assertions.assertEquals("value3", node.valueOrNull().defaultValue());
+
+        Assertions.assertNull(root.find(ConfigPath.from("key1.k3").build()));
+        Assertions.assertNull(root.find(ConfigPath.from("key3.k1").build()));
+        Assertions.assertSame(root, root.find(ConfigPath.from("").build()));
+    }
+
+    @Test
+    public void testFindFromSubNode() {
+        FrozenConfigNode root = new PropertyStringSource(PROPERTIES).load(null).freeze();
+        FrozenConfigNode key1 = root.find(ConfigPath.from("key1").build());
+
+        Assertions.assertSame(root.find(ConfigPath.from("key1.k1").build()), key1.find(ConfigPath.from("k1").build()));
+        Assertions.assertSame(key1, key1.find(ConfigPath.from("").build()));
+        Assertions.assertNull(key1.find(ConfigPath.from("key1.k1").build()));
+    }
+
+    @Test
+    public void testInternedKeys() {
+        FrozenConfigNode root = new PropertyStringSource(PROPERTIES).load(null).freeze();
+        FrozenConfigNode k1 = root.find(ConfigPath.from("key1.k1").build());
+        FrozenConfigNode otherK1 = root.find(ConfigPath.from("key2.k1").build());
+        Assertions.assertSame(k1.key(), otherK1.key());
+    }
+
+    @Test
+    public void testSnapshot() {
+        ConfigNode configNode = new PropertyStringSource(PROPERTIES).load(null);
+        FrozenConfigNode root = configNode.freeze();
+        new PropertyStringSource("key3=value5").load(configNode);
+
+        Assertions.assertNull(root.find(ConfigPath.from("key3").build()));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> root.properties().clear());
+    }
+
+    @Test
+    public void testMerge() {
+        ConfigNode first = new PropertyStringSource(PROPERTIES).load(null);
+        ConfigNode second = new PropertyStringSource("key1.k2=value5\nkey1.k3=value6\nkey3=value7").load(null);
+        FrozenConfigNode root = FrozenConfigNode.merge(List.of(first, second));
+
+        Assertions.assertEquals("value1", root.find(ConfigPath.from("key1.k1").build()).valueOrNull().defaultValue());
+        Assertions.assertEquals("value5", root.find(ConfigPath.from("key1.k2").build()).valueOrNull().defaultValue());
+        Assertions.assertEquals("value6", root.find(ConfigPath.from("key1.k3").build()).valueOrNull().defaultValue());
+        Assertions.assertEquals("value3", root.find(ConfigPath.from("key2").build()).valueOrNull().defaultValue());
+        Assertions.assertEquals(3, root.size());
+        Assertions.assertEquals(3, root.find(ConfigPath.from("key1").build()).size());
+        // The merged trees are not changed
+        Assertions.assertEquals(2, first.navigate(ConfigPath.from("key1").build()).get().size());
+        Assertions.assertTrue(first.navigate(ConfigPath.from("key3.k1").build()).isEmpty());
+    }
+
+    @Test
+    public void testDiff() {
+        ConfigNode oldTree = new PropertyStringSource(PROPERTIES).load(null);
+        ConfigNode newTree = new PropertyStringSource("key1.k1=value1\nkey1.k2=changed\nkey2.k1=value4\nkey3=value5")
+                .load(null);
+
+        List<ConfigPath> changed = ConfigNodeBuilder.diff(oldTree, newTree);
+        Assertions.assertEquals(List.of(ConfigPath.from("key1.k2").build(), ConfigPath.from("key2").build(),
+                ConfigPath.from("key3").build()), changed);
+        Assertions.assertEquals(List.of(), ConfigNodeBuilder.diff(newTree, newTree));
+    }
+
+    @Test
+    public void testPatch() {
+        FrozenConfigNode root = new PropertyStringSource(PROPERTIES).load(null).freeze();
+        Map<ConfigPath, ConfigNodeValue> changes = new LinkedHashMap<>();
+        changes.put(ConfigPath.from("key1.k2").build(), new StringNodeValue("changed"));
+        changes.put(ConfigPath.from("key2.k1").build(), null);
+        changes.put(ConfigPath.from("key3.k1").build(), new StringNodeValue("value5"));
+        FrozenConfigNode patched = root.patch(changes);
+
+        Assertions.assertEquals("changed", patched.find(ConfigPath.from("key1.k2").build()).valueOrNull().defaultValue());
+        Assertions.assertEquals("value5", patched.find(ConfigPath.from("key3.k1").build()).valueOrNull().defaultValue());
+        Assertions.assertNull(patched.find(ConfigPath.from("key2.k1").build()));
+        Assertions.assertFalse(patched.find(ConfigPath.from("key2").build()).isSubNode());
+        Assertions.assertEquals(3, patched.size());
+        Assertions.assertSame(patched, patched.find(ConfigPath.from("").build()));
+        // The untouched sub-trees are shared, the original tree is not changed
+        Assertions.assertSame(root.find(ConfigPath.from("key1.k1").build()),
+                patched.find(ConfigPath.from("key1.k1").build()));
+        Assertions.assertSame(patched.find(ConfigPath.from("key1").build()).child(1),
+                patched.find(ConfigPath.from("key1.k2").build()));
+        Assertions.assertEquals("value2", root.find(ConfigPath.from("key1.k2").build()).valueOrNull().defaultValue());
+        Assertions.assertEquals("value4", root.find(ConfigPath.from("key2.k1").build()).valueOrNull().defaultValue());
+
+        changes.clear();
+        changes.put(ConfigPath.from("key3.k1").build(), null);
+        Assertions.assertNull(patched.patch(changes).find(ConfigPath.from("key3").build()));
+    }
+
+    @Test
+    public void testPatchSharesIndex() throws ReflectiveOperationException {
+        StringBuilder properties = new StringBuilder();
+        for (int i = 0; i != 1000; i++) {
+            properties.append("key").append(i).append(".sub=value").append(i).append('\n');
+        }
+        FrozenConfigNode root = new PropertyStringSource(properties.toString()).load(null).freeze();
+
+        FrozenConfigNode patched = root.patch(Map.of(ConfigPath.from("key1.sub").build(), new StringNodeValue("changed")));
+        // The untouched entries of the index are not copied
+        Assertions.assertSame(indexBase(root), indexBase(patched));
+        Assertions.assertEquals("changed", patched.find(ConfigPath.from("key1.sub").build()).valueOrNull().defaultValue());
+        Assertions.assertEquals("value1", root.find(ConfigPath.from("key1.sub").build()).valueOrNull().defaultValue());
+
+        // Patched until the index is compacted, the found nodes are those of the patched tree
+        for (int i = 0; i != 1000; i++) {
+            Map<ConfigPath, ConfigNodeValue> changes = new LinkedHashMap<>();
+            changes.put(ConfigPath.from("key" + i + ".sub").build(), null);
+            changes.put(ConfigPath.from("added" + i).build(), new StringNodeValue("added" + i));
+            patched = patched.patch(changes);
+        }
+        Assertions.assertNotSame(indexBase(root), indexBase(patched));
+        for (int i = 0; i != 1000; i++) {
+            Assertions.assertNull(patched.find(ConfigPath.from("key" + i).build()));
+            FrozenConfigNode added = patched.find(ConfigPath.from("added" + i).build());
+            Assertions.assertSame(patched.child(ConfigPath.from("added" + i).build().getSegments().get(0)), added);
+            Assertions.assertEquals("value" + i,
+                    root.find(ConfigPath.from("key" + i + ".sub").build()).valueOrNull().defaultValue());
+        }
+        Assertions.assertSame(patched, patched.find(ConfigPath.from("").build()));
+    }
+
+    private static Object indexBase(FrozenConfigNode root) throws ReflectiveOperationException {
+        Field indexField = FrozenConfigNode.class.getDeclaredField("index");
+        indexField.setAccessible(true);
+        Object index = indexField.get(root);
+        Field baseField = index.getClass().getDeclaredField("base");
+        baseField.setAccessible(true);
+        return baseField.get(index);
+    }
+
+    @Test
+    public void testData() {
+        StringBuilder properties = new StringBuilder("key1=value0\n");
+        for (int i = 1; i != 20; i++) {
+            properties.append("key1.k").append(i).append("=value").append(i).append('\n');
+        }
+        properties.append("key1.k1.sub=value20\nkey2=value21");
+        FrozenConfigNode root = new PropertyStringSource(properties.toString()).load(null).freeze();
+        FrozenConfigNode key1 = root.find(ConfigPath.from("key1").build());
+
+        Data data = key1.data();
+        Assertions.assertSame(data, key1.data());
+        Assertions.assertEquals("value0", data.valueOrNull().defaultValue());
+        Assertions.assertEquals(19, data.properties().size());
+        Assertions.assertEquals("value7", data.property("k7").get().valueOrNull().defaultValue());
+        Assertions.assertTrue(data.property("k20").isEmpty());
+        Assertions.assertTrue(data.hasSubNode("k1"));
+        Assertions.assertFalse(data.hasSubNode("k2"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> data.properties().clear());
+
+        Map<ConfigPath, ConfigNodeValue> changes = Map.of(ConfigPath.from("key2").build(), new StringNodeValue("changed"));
+        FrozenConfigNode patched = root.patch(changes);
+        Assertions.assertSame(data, patched.find(ConfigPath.from("key1").build()).data());
+        Assertions.assertEquals("changed", patched.data().property("key2").get().valueOrNull().defaultValue());
+        Assertions.assertEquals("value21", root.data().property("key2").get().valueOrNull().defaultValue());
+    }
+}
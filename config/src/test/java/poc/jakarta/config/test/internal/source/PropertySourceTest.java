@@ -17,16 +17,33 @@
 
 package poc.jakarta.config.test.internal.source;
 
+import jakarta.config.ConfigException;
 import poc.jakarta.config.internal.node.ConfigNode;
+import poc.jakarta.config.internal.node.ConfigPath;
+import poc.jakarta.config.internal.node.FrozenConfigNode;
 import poc.jakarta.config.test.internal.node.ConfigNodeWrapper;
+import poc.jakarta.config.internal.source.ParsedSourceCache;
 import poc.jakarta.config.internal.source.PropertyStringSource;
 import poc.jakarta.config.internal.value.convertors.ValueConvertors;
+import poc.jakarta.config.source.MappedPropertyFileSource;
+import poc.jakarta.config.source.PropertyResourcesSource;
+import poc.jakarta.config.value.ConfigNodeValue;
 import poc.jakarta.config.value.NodeValueConvertors;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
 public class PropertySourceTest {
     private final NodeValueConvertors convertors = new ValueConvertors(Collections.emptyList());
@@ -71,4 +88,131 @@ public class PropertySourceTest {
         Assertions.assertEquals("value3",
                 new ConfigNodeWrapper(node).getValue().get().get(String.class, String.class, convertors));
     }
+
+    @Test
+    public void testRowsAndValues() {
+        String property = "# comment\r\n\n  key1 . k1 = value1 \r\nkey1.k2=a, b ,c\nkey1.k3=a,,b,,\nkey1.k4=a,\n"
+                + "key1.k5=,\nkey1.k6=\nkey1.k7=x=y";
+        ConfigNode configNode = new PropertyStringSource(property).load(null);
+
+        Assertions.assertEquals("value1", value(configNode, "key1.k1"));
+        Assertions.assertArrayEquals(new Object[] {"a", "b", "c"}, values(configNode, "key1.k2"));
+        Assertions.assertArrayEquals(new Object[] {"a", "", "b"}, values(configNode, "key1.k3"));
+        Assertions.assertEquals("a,", value(configNode, "key1.k4"));
+        Assertions.assertArrayEquals(new Object[] {}, values(configNode, "key1.k5"));
+        Assertions.assertEquals("", value(configNode, "key1.k6"));
+        Assertions.assertEquals("x=y", value(configNode, "key1.k7"));
+
+        Assertions.assertThrows(ConfigException.class, () -> new PropertyStringSource("key1=value1\nkey2").load(null));
+    }
+
+    @Test
+    public void testMappedFile() throws IOException {
+        Path file = Files.createTempFile("mapped", ".properties");
+        // A mapped file cannot be deleted on some platforms until the mapping is collected
+        file.toFile().deleteOnExit();
+        Files.writeString(file, "# koment\u00e1\u0159\nkey1.k\u00f6=v\u00e4lue1\nkey1.k2 = \u20ac, \u00a3\nkey2=value3\n",
+                StandardCharsets.UTF_8);
+        ConfigNode configNode = new MappedPropertyFileSource(file).load(null);
+
+        Assertions.assertEquals("v\u00e4lue1", value(configNode, "key1.k\u00f6"));
+        Assertions.assertArrayEquals(new Object[] {"\u20ac", "\u00a3"}, values(configNode, "key1.k2"));
+        Assertions.assertEquals("value3", value(configNode, "key2"));
+    }
+
+    private static Object value(ConfigNode root, String path) {
+        return root.navigate(ConfigPath.from(path).build()).get().value().get().defaultValue();
+    }
+
+    private static Object[] values(ConfigNode root, String path) {
+        return Arrays.stream((ConfigNodeValue[]) value(root, path)).map(ConfigNodeValue::defaultValue).toArray();
+    }
+
+    @Test
+    public void testParsedSourceCache() throws IOException {
+        Path file = Files.createTempFile("cached", ".properties");
+        file.toFile().deleteOnExit();
+        Files.writeString(file, "key1.k1=value1\nkey2=value2", StandardCharsets.UTF_8);
+
+        // Parsed once, the frozen tree is shared
+        FrozenConfigNode frozen = ParsedSourceCache.load(file.toUri().toURL());
+        Assertions.assertSame(frozen, ParsedSourceCache.load(file.toUri().toURL()));
+
+        // The changeable trees are copies
+        ConfigNode first = ParsedSourceCache.load(file.toUri().toURL(), null);
+        new PropertyStringSource("key3=value3").load(first);
+        ConfigNode second = ParsedSourceCache.load(file.toUri().toURL(), null);
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals(2, second.size());
+        Assertions.assertSame(first.navigate(ConfigPath.from("key1.k1").build()).get().valueOrNull(),
+                second.navigate(ConfigPath.from("key1.k1").build()).get().valueOrNull());
+
+        ConfigNode merged = ParsedSourceCache.load(file.toUri().toURL(),
+                new PropertyStringSource("key2=value0\nkey4=value4").load(null));
+        Assertions.assertEquals(3, merged.size());
+        Assertions.assertEquals("value2", merged.navigate(ConfigPath.from("key2").build()).get().valueOrNull()
+                .get(String.class, String.class, convertors));
+
+        Files.writeString(file, "key1.k1=changed", StandardCharsets.UTF_8);
+        ConfigNode changed = ParsedSourceCache.load(file.toUri().toURL(), null);
+        Assertions.assertEquals("changed", changed.navigate(ConfigPath.from("key1.k1").build()).get().valueOrNull()
+                .get(String.class, String.class, convertors));
+    }
+
+    @Test
+    public void testParsedSourceCacheJar() throws IOException {
+        Path jar = Files.createTempFile("cached", ".jar");
+        jar.toFile().deleteOnExit();
+        writeJar(jar, "key1=value1");
+        URL url = new URL("jar:" + jar.toUri() + "!/cached.properties");
+
+        FrozenConfigNode frozen = ParsedSourceCache.load(url);
+        Assertions.assertEquals("value1", frozen.find(ConfigPath.from("key1").build()).valueOrNull().defaultValue());
+        Assertions.assertSame(frozen, ParsedSourceCache.load(url));
+
+        writeJar(jar, "key1=changed1");
+        Assertions.assertEquals("changed1", ParsedSourceCache.load(url).find(ConfigPath.from("key1").build())
+                .valueOrNull().defaultValue());
+    }
+
+    private static void writeJar(Path jar, String properties) throws IOException {
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new JarEntry("cached.properties"));
+            out.write(properties.getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+    }
+
+    @Test
+    public void testPropertyResources() throws IOException {
+        Path[] dirs = new Path[3];
+        String[] contents = {"key1=first\nkey2=first", "key1=second\nkey3=second", "config_ordinal=200\nkey2=third"};
+        URL[] urls = new URL[dirs.length];
+        for (int i = 0; i != dirs.length; i++) {
+            dirs[i] = Files.createTempDirectory("resources");
+            Path file = Files.writeString(dirs[i].resolve("defaults.properties"), contents[i], StandardCharsets.UTF_8);
+            file.toFile().deleteOnExit();
+            dirs[i].toFile().deleteOnExit();
+            urls[i] = dirs[i].toUri().toURL();
+        }
+
+        try (URLClassLoader classLoader = new URLClassLoader(urls, null)) {
+            PropertyResourcesSource source = new PropertyResourcesSource("defaults.properties", classLoader);
+            ConfigNode root = source.load(null);
+
+            // The first resource wins among the same ordinals, the higher ordinal wins over the classpath order
+            Assertions.assertEquals("first", value(root, "key1"));
+            Assertions.assertEquals("third", value(root, "key2"));
+            Assertions.assertEquals("second", value(root, "key3"));
+
+            List<PropertyResourcesSource.ResourceTiming> timings = source.timings();
+            Assertions.assertEquals(3, timings.size());
+            Assertions.assertEquals(urls[2].toString() + "defaults.properties", timings.get(2).url().toString());
+            Assertions.assertEquals(200, timings.get(2).ordinal());
+            Assertions.assertEquals(PropertyResourcesSource.DEFAULT_ORDINAL, timings.get(0).ordinal());
+            Assertions.assertTrue(timings.get(0).nanos() > 0);
+
+            Assertions.assertEquals(0, new PropertyResourcesSource("missing.properties", classLoader).load(null).size());
+        }
+    }
 }
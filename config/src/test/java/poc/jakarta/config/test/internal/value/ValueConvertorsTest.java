@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package poc.jakarta.config.test.internal.value;
+
+import jakarta.config.ConfigException;
+import poc.jakarta.config.internal.value.CollectionNodeValue;
+import poc.jakarta.config.internal.value.StringNodeValue;
+import poc.jakarta.config.internal.value.convertors.ValueConvertors;
+import poc.jakarta.config.value.ConfigNodeValue;
+import poc.jakarta.config.value.NodeValueConvertor;
+import poc.jakarta.config.value.NodeValueConvertors;
+import poc.jakarta.config.value.PrimitiveNodeValueConvertor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ValueConvertorsTest {
+    private static final class CountingConvertor implements NodeValueConvertor {
+        private final AtomicInteger asked = new AtomicInteger();
+
+        @Override
+        public boolean isConvertible(Class<?> type, Type genericType, Class<?> defaultType) {
+            asked.incrementAndGet();
+            return false;
+        }
+
+        @Override
+        public <T> T convert(Class<T> type, Type genericType, Object defaultValue) {
+            throw new IllegalStateException();
+        }
+    }
+
+    @Test
+    public void testCachedLookup() {
+        CountingConvertor counting = new CountingConvertor();
+        NodeValueConvertors convertors = new ValueConvertors(List.of(counting));
+
+        Optional<NodeValueConvertor> convertor = convertors.findConvertor(int.class, int.class, String.class);
+        Assertions.assertTrue(convertor.isPresent());
+        Assertions.assertSame(convertor.get(), convertors.findConvertor(int.class, int.class, String.class).get());
+        Assertions.assertEquals(1, counting.asked.get());
+
+        // Not found is cached as well
+        Assertions.assertTrue(convertors.findConvertor(Thread.class, Thread.class, String.class).isEmpty());
+        Assertions.assertTrue(convertors.findConvertor(Thread.class, Thread.class, String.class).isEmpty());
+        Assertions.assertEquals(2, counting.asked.get());
+
+        Assertions.assertEquals(Integer.valueOf(5), convertors.convert(Integer.class, Integer.class, String.class, "5"));
+    }
+
+    @Test
+    public void testPrimitiveConvertor() {
+        NodeValueConvertors convertors = new ValueConvertors(List.of());
+        NodeValueConvertor convertor = convertors.findConvertor(int.class, int.class, String.class).get();
+        Assertions.assertTrue(convertor instanceof PrimitiveNodeValueConvertor);
+
+        PrimitiveNodeValueConvertor primitive = (PrimitiveNodeValueConvertor) convertor;
+        Assertions.assertEquals(-42, primitive.convertToInt(new StringBuilder("-42")));
+        Assertions.assertEquals(1L << 40, primitive.convertToLong(String.valueOf(1L << 40)));
+        Assertions.assertTrue(primitive.convertToBoolean("true"));
+        Assertions.assertEquals(4.5, primitive.convertToDouble("4.5"));
+        Assertions.assertThrows(ConfigException.class, () -> primitive.convertToInt(""));
+        Assertions.assertThrows(ConfigException.class, () -> primitive.convertToInt("4.5"));
+    }
+
+    private static final class Port {
+        private final int port;
+
+        private Port(int port) {
+            this.port = port;
+        }
+    }
+
+    private static final class PortConvertor implements NodeValueConvertor {
+        private final AtomicInteger converted = new AtomicInteger();
+        private final boolean cacheable;
+
+        private PortConvertor(boolean cacheable) {
+            this.cacheable = cacheable;
+        }
+
+        @Override
+        public boolean isConvertible(Class<?> type, Type genericType, Class<?> defaultType) {
+            return type == Port.class;
+        }
+
+        @Override
+        public <T> T convert(Class<T> type, Type genericType, Object defaultValue) {
+            converted.incrementAndGet();
+            return type.cast(new Port(Integer.parseInt(defaultValue.toString())));
+        }
+
+        @Override
+        public boolean isCacheable(Class<?> type, Type genericType) {
+            return cacheable;
+        }
+    }
+
+    @Test
+    public void testCachedValues() throws NoSuchFieldException {
+        NodeValueConvertors convertors = new ValueConvertors(List.of());
+        ConfigNodeValue value = new StringNodeValue("8080");
+        Integer port = convertors.convert(Integer.class, Integer.class, value);
+        Assertions.assertEquals(8080, port);
+        Assertions.assertSame(port, convertors.convert(Integer.class, Integer.class, value));
+        Assertions.assertEquals("8080", convertors.convert(String.class, String.class, value));
+
+        // The collections are mutable, the elements are cached
+        Type collection = getClass().getDeclaredField("collection").getGenericType();
+        ConfigNodeValue values = new CollectionNodeValue(value);
+        Collection<Integer> ports = convertors.convert(Collection.class, collection, values);
+        Assertions.assertNotSame(ports, convertors.convert(Collection.class, collection, values));
+        Assertions.assertSame(port, ports.iterator().next());
+
+        PortConvertor cacheable = new PortConvertor(true);
+        convertors = new ValueConvertors(List.of(cacheable));
+        Assertions.assertSame(convertors.convert(Port.class, Port.class, value),
+                convertors.convert(Port.class, Port.class, value));
+        Assertions.assertEquals(1, cacheable.converted.get());
+
+        PortConvertor notCacheable = new PortConvertor(false);
+        convertors = new ValueConvertors(List.of(notCacheable));
+        Assertions.assertEquals(8080, convertors.convert(Port.class, Port.class, value).port);
+        Assertions.assertEquals(8080, convertors.convert(Port.class, Port.class, value).port);
+        Assertions.assertEquals(2, notCacheable.converted.get());
+    }
+
+    private Collection<Integer> collection;
+}